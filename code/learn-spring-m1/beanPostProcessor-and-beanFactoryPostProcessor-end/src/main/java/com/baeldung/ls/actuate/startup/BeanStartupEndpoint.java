@@ -0,0 +1,37 @@
+package com.baeldung.ls.actuate.startup;
+
+import com.baeldung.ls.config.BeanStartupProfiler;
+import com.baeldung.ls.config.BeanStartupProfiler.BeanTiming;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/beanstartup[?limit=n]}: the beans that took longest to create, by self time.
+ */
+@Component
+@Endpoint(id = "beanstartup")
+public class BeanStartupEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final BeanStartupProfiler profiler;
+
+    public BeanStartupEndpoint(BeanStartupProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public BeanStartupReport slowest(@Nullable Integer limit) {
+        List<BeanTiming> timings = profiler.timings();
+        long totalNanos = timings.stream().filter(timing -> timing.depth() == 0).mapToLong(BeanTiming::totalNanos).sum();
+        return new BeanStartupReport(timings.size(), totalNanos / 1_000_000.0,
+            profiler.slowest(limit == null ? DEFAULT_LIMIT : limit));
+    }
+
+    public record BeanStartupReport(int beans, double totalMillis, List<BeanTiming> slowest) {
+    }
+}
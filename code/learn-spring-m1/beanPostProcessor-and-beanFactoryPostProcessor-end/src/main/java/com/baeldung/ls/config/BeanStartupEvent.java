@@ -0,0 +1,39 @@
+package com.baeldung.ls.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event spanning the creation of one bean, from instantiation to the end of its initialization; nested events
+ * on the same thread are the beans it depends on.
+ */
+@Name("com.baeldung.ls.BeanStartup")
+@Label("Bean Startup")
+@Category({ "Spring", "Startup" })
+@Description("Instantiation, injection and initialization of a bean")
+class BeanStartupEvent extends Event {
+
+    @Label("Bean Name")
+    String beanName;
+
+    @Label("Bean Type")
+    String beanType;
+
+    @Label("Created For")
+    String parent;
+
+    @Label("Depth")
+    int depth;
+
+    @Label("Self Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long selfTime;
+
+    @Label("Initialization Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long initTime;
+}
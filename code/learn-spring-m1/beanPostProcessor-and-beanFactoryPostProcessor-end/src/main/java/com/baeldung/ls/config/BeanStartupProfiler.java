@@ -0,0 +1,208 @@
+package com.baeldung.ls.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Times the creation of every bean, from {@link #postProcessBeforeInstantiation} to
+ * {@link #postProcessAfterInitialization}, and emits a {@link BeanStartupEvent} to JFR for each of them.
+ * <p>
+ * Beans created while another bean is being created are its dependencies: they are recorded with that bean as parent,
+ * and their time is subtracted from the parent's self time. Running first among the post-processors, the profiler sees
+ * {@code @PostConstruct} and init methods, but not the proxies that later post-processors create. Beans created before
+ * the profiler itself, other priority-ordered post-processors among them, are not recorded, and neither are beans created
+ * once the application is ready, lazy and prototype beans among them. A bean whose creation throws is not recorded
+ * either, its frame is dropped as soon as the bean factory no longer reports the bean as in creation.
+ */
+@Component
+public class BeanStartupProfiler implements InstantiationAwareBeanPostProcessor, PriorityOrdered, BeanFactoryAware,
+    ApplicationListener<ApplicationReadyEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(BeanStartupProfiler.class);
+
+    private static final int SUMMARY_SIZE = 10;
+
+    private final ThreadLocal<Deque<Frame>> inProgress = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Queue<BeanTiming> timings = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean recording = true;
+
+    private ConfigurableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        if (beanFactory instanceof ConfigurableBeanFactory configurable) {
+            this.beanFactory = configurable;
+        }
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+        if (!recording) {
+            return null;
+        }
+        Deque<Frame> stack = inProgress.get();
+        dropFailed(stack);
+        Frame parent = stack.peek();
+        BeanStartupEvent event = new BeanStartupEvent();
+        event.begin();
+        stack.push(new Frame(beanName, parent == null ? null : parent.beanName, stack.size(), System.nanoTime(), event));
+        return null;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (!recording) {
+            return bean;
+        }
+        Frame frame = find(beanName, false);
+        if (frame != null) {
+            frame.initStart = System.nanoTime();
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!recording) {
+            return bean;
+        }
+        Frame frame = find(beanName, true);
+        if (frame == null) {
+            return bean;
+        }
+        long end = System.nanoTime();
+        long total = end - frame.start;
+        long self = total - frame.childTime;
+        long init = frame.initStart == 0 ? 0 : end - frame.initStart;
+        Frame parent = inProgress.get().peek();
+        if (parent != null) {
+            parent.childTime += total;
+        }
+        timings.add(new BeanTiming(beanName, bean.getClass().getName(), frame.parent, frame.depth, total, self, init));
+
+        BeanStartupEvent event = frame.event;
+        event.end();
+        if (event.shouldCommit()) {
+            event.beanName = beanName;
+            event.beanType = bean.getClass().getName();
+            event.parent = frame.parent;
+            event.depth = frame.depth;
+            event.selfTime = self;
+            event.initTime = init;
+            event.commit();
+        }
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        recording = false;
+        inProgress.remove();
+        List<BeanTiming> slowest = slowest(SUMMARY_SIZE);
+        LOG.info("{} beans created, slowest by self time:", timings.size());
+        slowest.forEach(timing -> LOG.info("  {} ms self, {} ms total: {} ({})", timing.selfMillis(),
+            timing.totalMillis(), timing.beanName(), timing.beanType()));
+    }
+
+    /**
+     * @return the {@code limit} beans with the highest self time, slowest first
+     */
+    public List<BeanTiming> slowest(int limit) {
+        return timings.stream()
+            .sorted(Comparator.comparingLong(BeanTiming::selfNanos).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    public List<BeanTiming> timings() {
+        return new ArrayList<>(timings);
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    // a bean whose creation threw never reaches postProcessAfterInitialization, inner beans are unknown to the factory
+    private void dropFailed(Deque<Frame> stack) {
+        while (beanFactory != null && !stack.isEmpty() && beanFactory.containsBean(stack.peek().beanName)
+            && !beanFactory.isCurrentlyInCreation(stack.peek().beanName)) {
+            stack.pop();
+        }
+    }
+
+    // usually the top of the stack, searched in case a bean was created without going through every callback
+    private Frame find(String beanName, boolean remove) {
+        Iterator<Frame> frames = inProgress.get().iterator();
+        while (frames.hasNext()) {
+            Frame frame = frames.next();
+            if (frame.beanName.equals(beanName)) {
+                if (remove) {
+                    frames.remove();
+                }
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    public record BeanTiming(String beanName, String beanType, String parent, int depth, long totalNanos,
+                             long selfNanos, long initNanos) {
+
+        public double totalMillis() {
+            return totalNanos / 1_000_000.0;
+        }
+
+        public double selfMillis() {
+            return selfNanos / 1_000_000.0;
+        }
+
+        public double initMillis() {
+            return initNanos / 1_000_000.0;
+        }
+    }
+
+    private static class Frame {
+
+        private final String beanName;
+
+        private final String parent;
+
+        private final int depth;
+
+        private final long start;
+
+        private final BeanStartupEvent event;
+
+        private long initStart;
+
+        private long childTime;
+
+        Frame(String beanName, String parent, int depth, long start, BeanStartupEvent event) {
+            this.beanName = beanName;
+            this.parent = parent;
+            this.depth = depth;
+            this.start = start;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.baeldung.ls.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Marks selected bean definitions lazy, so that they are only created when first needed instead of at startup: a
+ * per-bean alternative to {@code spring.main.lazy-initialization}. A bean is made lazy when its type is in one of
+ * {@code startup.lazy.packages}, is assignable to one of {@code startup.lazy.types} or is annotated with one of
+ * {@code startup.lazy.annotations}, unless its name is in {@code startup.lazy.eager}.
+ * <p>
+ * Infrastructure beans and beans that have to exist for the container to work as expected (post-processors,
+ * listeners, lifecycle beans, beans with {@code @Scheduled} or {@code @EventListener} methods, ...) always stay eager:
+ * a lazy one would never be created unless something else depends on it, so it would never run.
+ */
+@Component
+public class LazyInitBeanFactoryPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+    private static final Logger LOG = LoggerFactory.getLogger(LazyInitBeanFactoryPostProcessor.class);
+
+    private static final List<Class<?>> ALWAYS_EAGER = List.of(BeanFactoryPostProcessor.class,
+        BeanPostProcessor.class, SmartInitializingSingleton.class, SmartLifecycle.class, ApplicationListener.class);
+
+    // meta-annotations count too, @TransactionalEventListener is an @EventListener
+    private static final List<Class<? extends Annotation>> ALWAYS_EAGER_METHODS = List.of(Scheduled.class,
+        Schedules.class, EventListener.class);
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        // bound by hand: @Value and @ConfigurationProperties are not processed yet for a BeanFactoryPostProcessor
+        Binder binder = Binder.get(environment);
+        if (!binder.bind("startup.lazy.enabled", Boolean.class).orElse(true)) {
+            return;
+        }
+        List<String> packages = list(binder, "startup.lazy.packages");
+        List<Class<?>> types = list(binder, "startup.lazy.types").stream()
+            .<Class<?>>map(name -> ClassUtils.resolveClassName(name, beanFactory.getBeanClassLoader()))
+            .toList();
+        List<Class<? extends Annotation>> annotations = list(binder, "startup.lazy.annotations").stream()
+            .<Class<? extends Annotation>>map(name -> ClassUtils.resolveClassName(name, beanFactory.getBeanClassLoader()).asSubclass(Annotation.class))
+            .toList();
+        Set<String> eager = Set.copyOf(list(binder, "startup.lazy.eager"));
+
+        List<String> lazy = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition bd = beanFactory.getBeanDefinition(beanName);
+            if (eager.contains(beanName) || bd.isLazyInit() || bd.isAbstract() || !bd.isSingleton()
+                || bd.getRole() != BeanDefinition.ROLE_APPLICATION) {
+                continue;
+            }
+            Class<?> beanClass = beanClass(bd, beanFactory.getBeanClassLoader());
+            if (beanClass == null || ALWAYS_EAGER.stream().anyMatch(type -> type.isAssignableFrom(beanClass))
+                || hasAlwaysEagerMethod(beanClass)) {
+                continue;
+            }
+            if (packages.stream().anyMatch(pkg -> beanClass.getName().startsWith(pkg + "."))
+                || types.stream().anyMatch(type -> type.isAssignableFrom(beanClass))
+                || annotations.stream().anyMatch(annotation -> isAnnotated(bd, beanClass, annotation))) {
+                bd.setLazyInit(true);
+                lazy.add(beanName);
+            }
+        }
+        LOG.info("Made {} of {} beans lazy: {}", lazy.size(), beanFactory.getBeanDefinitionCount(), lazy);
+    }
+
+    // the declared type, read from the definition so that no bean gets created this early
+    private static Class<?> beanClass(BeanDefinition bd, ClassLoader classLoader) {
+        String className = bd.getBeanClassName();
+        if (bd instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null) {
+            className = annotated.getFactoryMethodMetadata().getReturnTypeName();
+        }
+        if (className == null) {
+            return null;
+        }
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    // only sees the declared type, a @Bean method returning an interface hides the methods of the implementation
+    private static boolean hasAlwaysEagerMethod(Class<?> beanClass) {
+        if (!AnnotationUtils.isCandidateClass(beanClass, ALWAYS_EAGER_METHODS)) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(beanClass, (MethodIntrospector.MetadataLookup<Boolean>) method ->
+            ALWAYS_EAGER_METHODS.stream().anyMatch(annotation -> AnnotatedElementUtils.hasAnnotation(method, annotation)) ? true : null)
+            .isEmpty();
+    }
+
+    private static boolean isAnnotated(BeanDefinition bd, Class<?> beanClass, Class<? extends Annotation> annotation) {
+        if (AnnotatedElementUtils.hasAnnotation(beanClass, annotation)) {
+            return true;
+        }
+        MethodMetadata factoryMethod = bd instanceof AnnotatedBeanDefinition annotated ? annotated.getFactoryMethodMetadata() : null;
+        return factoryMethod != null && factoryMethod.isAnnotated(annotation.getName());
+    }
+
+    private static List<String> list(Binder binder, String name) {
+        return binder.bind(name, Bindable.listOf(String.class)).orElse(List.of());
+    }
+}
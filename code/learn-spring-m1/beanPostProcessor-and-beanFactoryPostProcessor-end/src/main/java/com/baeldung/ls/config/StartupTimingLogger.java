@@ -0,0 +1,47 @@
+package com.baeldung.ls.config;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs how long the application took to become ready and how long its first request took, the two numbers that
+ * {@link LazyInitBeanFactoryPostProcessor} trades against each other.
+ */
+@Component
+public class StartupTimingLogger implements Filter, ApplicationListener<ApplicationReadyEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(StartupTimingLogger.class);
+
+    private final AtomicBoolean firstRequest = new AtomicBoolean(true);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        LOG.info("Application ready in {} ms", event.getTimeTaken().toMillis());
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (!firstRequest.get() || !firstRequest.compareAndSet(true, false)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            LOG.info("First request {} took {} ms", ((HttpServletRequest) request).getRequestURI(),
+                (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
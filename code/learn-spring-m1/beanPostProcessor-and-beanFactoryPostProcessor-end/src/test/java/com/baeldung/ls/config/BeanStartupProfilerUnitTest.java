@@ -0,0 +1,113 @@
+package com.baeldung.ls.config;
+
+import com.baeldung.ls.config.BeanStartupProfiler.BeanTiming;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanStartupProfilerUnitTest {
+
+    @Test
+    void timings_givenDependentBeans_recordsNestingAndSelfTime() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BeanStartupProfiler.class, Beans.class)) {
+            Map<String, BeanTiming> timings = context.getBean(BeanStartupProfiler.class).timings().stream()
+                .collect(Collectors.toMap(BeanTiming::beanName, Function.identity()));
+
+            BeanTiming slow = timings.get("slow");
+            BeanTiming dependent = timings.get("dependent");
+            assertNull(dependent.parent());
+            assertEquals("dependent", slow.parent());
+            assertEquals(dependent.depth() + 1, slow.depth());
+            assertTrue(slow.selfMillis() >= 50);
+            assertTrue(dependent.totalNanos() >= slow.totalNanos());
+            assertTrue(dependent.selfMillis() < 50);
+            assertEquals("slow", context.getBean(BeanStartupProfiler.class).slowest(1).get(0).beanName());
+        }
+    }
+
+    @Test
+    void timings_givenBeanWhoseConstructorThrows_doesNotNestLaterBeansUnderIt() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BeanStartupProfiler.class, LazyBeans.class)) {
+            assertThrows(BeanCreationException.class, () -> context.getBean("failing"));
+            context.getBean("later");
+
+            BeanTiming later = timing(context, "later");
+            assertNull(later.parent());
+            assertEquals(0, later.depth());
+            assertNull(timing(context, "failing"));
+        }
+    }
+
+    @Test
+    void timings_givenApplicationReady_stopsRecording() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BeanStartupProfiler.class, LazyBeans.class)) {
+            BeanStartupProfiler profiler = context.getBean(BeanStartupProfiler.class);
+            int recorded = profiler.timings().size();
+
+            profiler.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO));
+            context.getBean("later");
+
+            assertEquals(recorded, profiler.timings().size());
+        }
+    }
+
+    private static BeanTiming timing(AnnotationConfigApplicationContext context, String beanName) {
+        return context.getBean(BeanStartupProfiler.class).timings().stream()
+            .filter(timing -> timing.beanName().equals(beanName))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Configuration
+    static class LazyBeans {
+
+        @Lazy
+        @Bean
+        Failing failing() {
+            return new Failing();
+        }
+
+        @Lazy
+        @Bean
+        StringBuilder later() {
+            return new StringBuilder("later");
+        }
+    }
+
+    static class Failing {
+
+        Failing() {
+            throw new IllegalStateException("Cannot create this bean");
+        }
+    }
+
+    @Configuration
+    static class Beans {
+
+        @Bean
+        String dependent(StringBuilder slow) {
+            return slow.toString();
+        }
+
+        @Bean
+        StringBuilder slow() throws InterruptedException {
+            Thread.sleep(60);
+            return new StringBuilder("slow");
+        }
+    }
+}
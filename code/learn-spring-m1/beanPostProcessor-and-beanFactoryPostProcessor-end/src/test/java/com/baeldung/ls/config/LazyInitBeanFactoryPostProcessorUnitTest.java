@@ -0,0 +1,129 @@
+package com.baeldung.ls.config;
+
+import com.baeldung.ls.model.BeanA;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyInitBeanFactoryPostProcessorUnitTest {
+
+    @Test
+    void postProcessBeanFactory_givenPackageTypeAndAnnotation_marksMatchingBeansLazy() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("startup.lazy.packages", "com.baeldung.ls.model")
+            .withProperty("startup.lazy.types", StringBuilder.class.getName())
+            .withProperty("startup.lazy.annotations", Service.class.getName())
+            .withProperty("startup.lazy.eager", "eagerBeanA");
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.setEnvironment(environment);
+            context.register(LazyInitBeanFactoryPostProcessor.class, Beans.class, AnnotatedService.class);
+            context.refresh();
+
+            assertTrue(context.getBeanFactory().getBeanDefinition("beanA").isLazyInit());
+            assertTrue(context.getBeanFactory().getBeanDefinition("builder").isLazyInit());
+            assertTrue(context.getBeanFactory().getBeanDefinition("lazyInitBeanFactoryPostProcessorUnitTest.AnnotatedService").isLazyInit());
+            assertFalse(context.getBeanFactory().getBeanDefinition("eagerBeanA").isLazyInit());
+            assertFalse(context.getBeanFactory().getBeanDefinition("text").isLazyInit());
+            assertFalse(context.getBeanFactory().containsSingleton("beanA"));
+            assertTrue(context.getBeanFactory().containsSingleton("eagerBeanA"));
+        }
+    }
+
+    @Test
+    void postProcessBeanFactory_givenScheduledListenerAndLifecycleBeans_keepsThemEager() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("startup.lazy.annotations", Service.class.getName());
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.setEnvironment(environment);
+            context.register(LazyInitBeanFactoryPostProcessor.class, ScheduledService.class, ListeningService.class,
+                LifecycleService.class, AnnotatedService.class);
+            context.refresh();
+
+            assertFalse(context.getBeanFactory().getBeanDefinition("lazyInitBeanFactoryPostProcessorUnitTest.ScheduledService").isLazyInit());
+            assertFalse(context.getBeanFactory().getBeanDefinition("lazyInitBeanFactoryPostProcessorUnitTest.ListeningService").isLazyInit());
+            assertFalse(context.getBeanFactory().getBeanDefinition("lazyInitBeanFactoryPostProcessorUnitTest.LifecycleService").isLazyInit());
+            assertTrue(context.getBeanFactory().getBeanDefinition("lazyInitBeanFactoryPostProcessorUnitTest.AnnotatedService").isLazyInit());
+            assertTrue(context.getBean(ListeningService.class).refreshed);
+        }
+    }
+
+    @Configuration
+    static class Beans {
+
+        @Bean
+        BeanA beanA() {
+            return new BeanA();
+        }
+
+        @Bean
+        BeanA eagerBeanA() {
+            return new BeanA();
+        }
+
+        @Bean
+        StringBuilder builder() {
+            return new StringBuilder();
+        }
+
+        @Bean
+        String text() {
+            return "text";
+        }
+    }
+
+    @Service
+    static class AnnotatedService {
+    }
+
+    @Service
+    static class ScheduledService {
+
+        @Scheduled(fixedDelay = 60_000)
+        void tick() {
+        }
+    }
+
+    @Service
+    static class ListeningService {
+
+        boolean refreshed;
+
+        @EventListener
+        void onRefresh(ContextRefreshedEvent event) {
+            refreshed = true;
+        }
+    }
+
+    @Service
+    static class LifecycleService implements SmartLifecycle {
+
+        private boolean running;
+
+        @Override
+        public void start() {
+            running = true;
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return running;
+        }
+    }
+}
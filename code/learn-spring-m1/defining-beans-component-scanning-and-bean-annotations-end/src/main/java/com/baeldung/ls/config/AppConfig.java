@@ -2,6 +2,7 @@ package com.baeldung.ls.config;
 
 import com.baeldung.ls.service.IProjectService;
 import com.baeldung.ls.service.impl.ProjectServiceImpl;
+import com.baeldung.other.persistence.repository.IIdGenerator;
 import com.baeldung.other.persistence.repository.IProjectRepository;
 import com.baeldung.other.persistence.repository.impl.ProjectRepositoryImpl;
 import org.springframework.context.annotation.Bean;
@@ -11,8 +12,8 @@ import org.springframework.context.annotation.Configuration;
 public class AppConfig {
 
     @Bean
-    public IProjectRepository iProjectRepository() {
-        return new ProjectRepositoryImpl();
+    public IProjectRepository iProjectRepository(IIdGenerator idGenerator) {
+        return new ProjectRepositoryImpl(idGenerator);
     }
 
     @Bean
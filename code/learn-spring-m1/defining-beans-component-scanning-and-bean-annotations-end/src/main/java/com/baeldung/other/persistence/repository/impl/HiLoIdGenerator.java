@@ -0,0 +1,55 @@
+package com.baeldung.other.persistence.repository.impl;
+
+import com.baeldung.other.persistence.repository.IIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hi/lo id generator: each thread reserves a block of {@code blockSize} consecutive ids with a single atomic add on
+ * the shared high value, then hands them out from a thread-local block without any further contention or allocation.
+ * Ids are unique across threads and start at 1; they are not gap-free since a thread may not use up its block.
+ */
+@Component
+public class HiLoIdGenerator implements IIdGenerator {
+
+    private final AtomicLong hi = new AtomicLong(1);
+
+    private final int blockSize;
+
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    public HiLoIdGenerator(@Value("${project.repository.id-block-size:1024}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Id block size must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public long nextId() {
+        Block block = blocks.get();
+        if (block.next == block.limit) {
+            block.next = hi.getAndAdd(blockSize);
+            block.limit = block.next + blockSize;
+        }
+        return block.next++;
+    }
+
+    /**
+     * Blocks that threads already reserved are not revoked, so callers must still check for collisions with ids
+     * below {@code id}.
+     */
+    @Override
+    public void advancePast(long id) {
+        hi.accumulateAndGet(id + 1, Math::max);
+    }
+
+    private static class Block {
+
+        private long next;
+
+        private long limit;
+    }
+}
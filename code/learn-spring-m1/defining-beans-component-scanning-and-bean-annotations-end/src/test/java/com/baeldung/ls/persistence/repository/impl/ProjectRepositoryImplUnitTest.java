@@ -1,5 +1,6 @@
 package com.baeldung.ls.persistence.repository.impl;
 
+import com.baeldung.other.persistence.repository.impl.HiLoIdGenerator;
 import com.baeldung.other.persistence.repository.impl.ProjectRepositoryImpl;
 import org.junit.jupiter.api.Test;
 
@@ -9,6 +10,6 @@ class ProjectRepositoryImplUnitTest {
 
     @Test
     void findById_givenDummyId_returnsEmpty() {
-        assertFalse(new ProjectRepositoryImpl().findById(123L).isPresent());
+        assertFalse(new ProjectRepositoryImpl(new HiLoIdGenerator(1024)).findById(123L).isPresent());
     }
 }
\ No newline at end of file
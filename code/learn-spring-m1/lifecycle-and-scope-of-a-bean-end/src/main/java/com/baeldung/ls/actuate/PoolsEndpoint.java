@@ -0,0 +1,28 @@
+package com.baeldung.ls.actuate;
+
+import com.baeldung.ls.config.scope.PooledScope;
+import com.baeldung.ls.config.scope.PooledScope.PoolStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/pools}: size, hit rate and checkout wait times of every {@link PooledScope pooled} bean.
+ */
+@Component
+@Endpoint(id = "pools")
+public class PoolsEndpoint {
+
+    private final PooledScope pooledScope;
+
+    public PoolsEndpoint(PooledScope pooledScope) {
+        this.pooledScope = pooledScope;
+    }
+
+    @ReadOperation
+    public Map<String, PoolStats> pools() {
+        return pooledScope.stats();
+    }
+}
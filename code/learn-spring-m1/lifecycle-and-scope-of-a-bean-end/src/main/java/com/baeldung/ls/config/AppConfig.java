@@ -1,7 +1,11 @@
 package com.baeldung.ls.config;
 
+import com.baeldung.ls.config.scope.PooledScope;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 import com.baeldung.ls.persistence.repository.impl.ProjectRepositoryImpl;
+import com.baeldung.ls.persistence.repository.impl.ProjectStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,6 +13,9 @@ import com.baeldung.ls.persistence.model.BeanA;
 import com.baeldung.ls.persistence.model.BeanB;
 import com.baeldung.ls.persistence.model.BeanC;
 import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
@@ -28,9 +35,17 @@ public class AppConfig {
         return new BeanC();
     }
 
+    // static, as it registers the "pooled" scope before any other bean definition is processed
+    // one instance per request thread by default, so that only threads outside the web server ever overflow the pool
+    @Bean
+    public static PooledScope pooledScope(@Value("${pooled-scope.max-size:${server.tomcat.threads.max:200}}") int maxSize,
+                                          @Value("${pooled-scope.max-wait:0ms}") Duration maxWait) {
+        return new PooledScope(maxSize, maxWait);
+    }
+
     @Bean
-    @Scope("prototype")
-    public IProjectRepository singletonBean() {
-        return new ProjectRepositoryImpl();
+    @Scope(value = PooledScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
+    public IProjectRepository singletonBean(ProjectStore projectStore, IIdGenerator idGenerator) {
+        return new ProjectRepositoryImpl(projectStore, idGenerator);
     }
 }
@@ -0,0 +1,10 @@
+package com.baeldung.ls.config.scope;
+
+/**
+ * Implemented by {@link PooledScope pooled} beans that keep state between uses: {@link #reset()} is called when an
+ * instance goes back to the pool, before it is handed out again.
+ */
+public interface IResettable {
+
+    void reset();
+}
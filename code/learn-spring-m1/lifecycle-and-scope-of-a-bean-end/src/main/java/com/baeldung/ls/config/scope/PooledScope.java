@@ -0,0 +1,280 @@
+package com.baeldung.ls.config.scope;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@value #NAME} scope: instances are checked out of a bounded pool per bean, leased to the current thread until
+ * {@link #release()}, and then reset and handed out again instead of being recreated.
+ * <p>
+ * A thread gets the same instance for a bean name until it releases its leases; {@code PooledScopeFilter} does so at
+ * the end of every web request, and the leases taken by the main thread during startup, runners included, are
+ * released once the application is ready. Any other thread that uses a pooled bean holds its lease until it calls
+ * {@link #release()} itself, in a {@code finally} block, or the lease is never returned. When all {@code maxSize}
+ * instances of a bean are leased, a checkout waits up to {@code maxWait} for one to come back and then creates an extra
+ * instance, which is destroyed on release instead of going back to the pool. Pooled beans are usually injected through a scoped proxy, so
+ * that every call resolves the instance leased to the calling thread. Destruction callbacks run for every pooled
+ * instance when the context is closed.
+ */
+public class PooledScope implements Scope, BeanFactoryPostProcessor, ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    public static final String NAME = "pooled";
+
+    private final int maxSize;
+
+    private final Duration maxWait;
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Map<String, Object>> leases = ThreadLocal.withInitial(HashMap::new);
+
+    // destruction callback registered while the current thread creates a pooled instance
+    private final ThreadLocal<Runnable> pendingCallback = new ThreadLocal<>();
+
+    public PooledScope(int maxSize, Duration maxWait) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        beanFactory.registerScope(NAME, this);
+    }
+
+    @Override
+    public Object get(String name, ObjectFactory<?> objectFactory) {
+        Map<String, Object> leased = leases.get();
+        Object bean = leased.get(name);
+        if (bean == null) {
+            bean = pools.computeIfAbsent(name, key -> new Pool()).checkout(objectFactory);
+            leased.put(name, bean);
+        }
+        return bean;
+    }
+
+    /**
+     * Returns the current thread's instance of {@code name} to its pool.
+     */
+    @Override
+    public Object remove(String name) {
+        Object bean = leases.get().remove(name);
+        if (bean != null) {
+            pools.get(name).checkin(bean);
+        }
+        return bean;
+    }
+
+    /**
+     * Returns every instance leased to the current thread to its pool.
+     */
+    public void release() {
+        Map<String, Object> leased = leases.get();
+        leased.forEach((name, bean) -> pools.get(name).checkin(bean));
+        leased.clear();
+    }
+
+    // published on the main thread after the runners
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        release();
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        pendingCallback.set(callback);
+    }
+
+    @Override
+    public Object resolveContextualObject(String key) {
+        return null;
+    }
+
+    @Override
+    public String getConversationId() {
+        return Thread.currentThread().getName();
+    }
+
+    public Map<String, PoolStats> stats() {
+        Map<String, PoolStats> stats = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> stats.put(name, pool.stats()));
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(Pool::destroy);
+        pools.clear();
+    }
+
+    /**
+     * @param size      instances currently alive, extra instances still leased included
+     * @param overflows checkouts that found the pool exhausted after waiting and got an extra instance
+     * @param hitRate   share of checkouts served by an idle instance instead of a new one
+     */
+    public record PoolStats(int size, int idle, long hits, long misses, long waits, long overflows, double hitRate,
+                            double averageWaitMillis, double maxWaitMillis) {
+    }
+
+    private class Pool {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition returned = lock.newCondition();
+
+        // last in, first out: the most recently used instance is the most likely to still be in cache
+        private final Deque<Object> idle = new ArrayDeque<>();
+
+        private final Map<Object, Runnable> callbacks = new IdentityHashMap<>();
+
+        private int size;
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder waits = new LongAdder();
+
+        private final LongAdder overflows = new LongAdder();
+
+        private final LongAdder waitNanos = new LongAdder();
+
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+        Object checkout(ObjectFactory<?> objectFactory) {
+            lock.lock();
+            try {
+                if (idle.isEmpty() && size >= maxSize) {
+                    await();
+                }
+                if (!idle.isEmpty()) {
+                    hits.increment();
+                    return idle.pop();
+                }
+                if (++size > maxSize) {
+                    overflows.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+            misses.increment();
+            return create(objectFactory);
+        }
+
+        void checkin(Object bean) {
+            if (bean instanceof IResettable resettable) {
+                resettable.reset();
+            }
+            Runnable discarded = null;
+            lock.lock();
+            try {
+                if (size > maxSize) {
+                    // an extra instance, or one of the pooled ones while an extra one is out: keep the pool at maxSize
+                    size--;
+                    discarded = callbacks.remove(bean);
+                } else {
+                    idle.push(bean);
+                }
+                returned.signal();
+            } finally {
+                lock.unlock();
+            }
+            if (discarded != null) {
+                discarded.run();
+            }
+        }
+
+        PoolStats stats() {
+            lock.lock();
+            try {
+                long checkouts = hits.sum() + misses.sum();
+                return new PoolStats(size, idle.size(), hits.sum(), misses.sum(), waits.sum(), overflows.sum(),
+                    checkouts == 0 ? 0 : (double) hits.sum() / checkouts,
+                    waits.sum() == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / waits.sum(),
+                    maxWaitNanos.get() / 1_000_000.0);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void destroy() {
+            lock.lock();
+            try {
+                callbacks.values().forEach(Runnable::run);
+                callbacks.clear();
+                idle.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // called holding the lock, gives up after maxWait or when interrupted and lets the caller create an extra instance
+        private void await() {
+            long start = System.nanoTime();
+            long remaining = maxWait.toNanos();
+            try {
+                while (idle.isEmpty() && size >= maxSize && remaining > 0) {
+                    remaining = returned.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                long waited = System.nanoTime() - start;
+                waits.increment();
+                waitNanos.add(waited);
+                maxWaitNanos.accumulate(waited);
+            }
+        }
+
+        // outside the lock, the slot is already reserved
+        private Object create(ObjectFactory<?> objectFactory) {
+            Object bean;
+            try {
+                bean = objectFactory.getObject();
+            } catch (RuntimeException | Error e) {
+                lock.lock();
+                try {
+                    size--;
+                    returned.signal();
+                } finally {
+                    lock.unlock();
+                }
+                pendingCallback.remove();
+                throw e;
+            }
+            Runnable callback = pendingCallback.get();
+            pendingCallback.remove();
+            if (callback != null) {
+                lock.lock();
+                try {
+                    callbacks.put(bean, callback);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return bean;
+        }
+    }
+}
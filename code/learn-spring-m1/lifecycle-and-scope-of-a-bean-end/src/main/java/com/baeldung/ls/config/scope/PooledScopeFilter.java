@@ -0,0 +1,33 @@
+package com.baeldung.ls.config.scope;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Returns the {@link PooledScope pooled} beans a request used to their pools once it completes.
+ */
+@Component
+public class PooledScopeFilter extends OncePerRequestFilter {
+
+    private final PooledScope pooledScope;
+
+    public PooledScopeFilter(PooledScope pooledScope) {
+        this.pooledScope = pooledScope;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            pooledScope.release();
+        }
+    }
+}
@@ -1,35 +1,43 @@
 package com.baeldung.ls.persistence.repository.impl;
 
 import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
-import org.springframework.stereotype.Repository;
 
 import java.util.*;
 
+// holds no data of its own, so a pooled instance can be handed to the next request as it is
 public class ProjectRepositoryImpl implements IProjectRepository {
-    private final List<Project> projects = new ArrayList<>();
+    private final ProjectStore projects;
+
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryImpl(ProjectStore projects, IIdGenerator idGenerator) {
+        this.projects = projects;
+        this.idGenerator = idGenerator;
+    }
 
     @Override
     public Optional<Project> findById(Long id) {
-        return projects.stream().filter(p -> p.getId().equals(id)).findFirst();
+        return Optional.ofNullable(projects.get(id));
     }
 
     @Override
     public Collection<Project> findAll() {
-        return projects;
+        return projects.values();
     }
 
     @Override
     public Project save(Project project) {
         Project toSave = new Project(project);
         if (Objects.isNull(toSave.getId())) {
-            toSave.setId(new Random().nextLong(1_000_000L));
-        }
-        Optional<Project> existingProject = findById(project.getId());
-        if (existingProject.isPresent()) {
-            projects.remove(existingProject);
+            // an explicitly saved project may already hold the generated id, never overwrite it
+            do {
+                toSave.setId(idGenerator.nextId());
+            } while (!projects.putIfAbsent(toSave));
+        } else {
+            projects.put(toSave);
         }
-        projects.add(toSave);
         return toSave;
     }
 }
@@ -0,0 +1,36 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The projects behind every {@link ProjectRepositoryImpl}. Repository instances are pooled and leased to one request
+ * at a time, the data they read and write lives here, shared by all of them, for the life of the application.
+ */
+@Component
+public class ProjectStore {
+    private final Map<Long, Project> projects = new ConcurrentHashMap<>();
+
+    public Project get(Long id) {
+        return id == null ? null : projects.get(id);
+    }
+
+    public Collection<Project> values() {
+        return projects.values();
+    }
+
+    public void put(Project project) {
+        projects.put(project.getId(), project);
+    }
+
+    /**
+     * @return {@code false}, without storing anything, if a project with the same id is already stored
+     */
+    public boolean putIfAbsent(Project project) {
+        return projects.putIfAbsent(project.getId(), project) == null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.baeldung.ls.config.scope;
+
+import com.baeldung.ls.config.scope.PooledScope.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledScopeUnitTest {
+
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(PoolConfig.class);
+
+    PooledScope scope = context.getBean(PooledScope.class);
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void getBean_withinOneLease_returnsSameInstance() {
+        assertSame(context.getBean("repository"), context.getBean("repository"));
+    }
+
+    @Test
+    void getBean_afterRelease_recyclesResetInstance() {
+        Scratch first = context.getBean("repository", Scratch.class);
+        first.lines.add("P1");
+        scope.release();
+
+        Scratch second = context.getBean("repository", Scratch.class);
+
+        assertSame(first, second);
+        assertTrue(second.lines.isEmpty());
+        PoolStats stats = scope.stats().get("repository");
+        assertEquals(1, stats.size());
+        assertEquals(1, stats.hits());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void getBean_givenPoolExhausted_waitsThenCreatesExtraInstance() {
+        Scratch mine = context.getBean("repository", Scratch.class);
+        Scratch other = CompletableFuture.supplyAsync(() -> context.getBean("repository", Scratch.class)).join();
+        assertNotSame(mine, other);
+
+        Scratch extra = CompletableFuture.supplyAsync(() -> {
+            Scratch bean = context.getBean("repository", Scratch.class);
+            scope.release();
+            return bean;
+        }).join();
+
+        assertNotSame(mine, extra);
+        assertNotSame(other, extra);
+        assertTrue(extra.destroyed);
+        assertFalse(mine.destroyed);
+        PoolStats stats = scope.stats().get("repository");
+        assertEquals(2, stats.size());
+        assertEquals(0, stats.idle());
+        assertEquals(1, stats.waits());
+        assertEquals(1, stats.overflows());
+        assertTrue(stats.maxWaitMillis() >= 100);
+    }
+
+    @Configuration
+    static class PoolConfig {
+
+        @Bean
+        static PooledScope pooledScope() {
+            return new PooledScope(2, Duration.ofMillis(100));
+        }
+
+        @Bean(destroyMethod = "destroy")
+        @Scope(PooledScope.NAME)
+        Scratch repository() {
+            return new Scratch();
+        }
+    }
+
+    static class Scratch implements IResettable {
+
+        final List<String> lines = new ArrayList<>();
+
+        volatile boolean destroyed;
+
+        @Override
+        public void reset() {
+            lines.clear();
+        }
+
+        void destroy() {
+            destroyed = true;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.baeldung.ls.controller.impl;
+
+import com.baeldung.ls.config.scope.PooledScope;
+import com.baeldung.ls.persistence.model.Project;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectControllerIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    PooledScope pooledScope;
+
+    @Test
+    void findOne_givenProjectCreatedInEarlierRequest_returnsIt() throws Exception {
+        String body = mockMvc.perform(post("/projects").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new Project("Pooled", LocalDate.now()))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long id = objectMapper.readValue(body, Project.class).getId();
+
+        mockMvc.perform(get("/projects/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Pooled"));
+        mockMvc.perform(get("/projects"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + id + ")]").exists());
+
+        // the requests were served by recycled repository instances
+        assertTrue(pooledScope.stats().get("scopedTarget.singletonBean").hits() >= 2);
+    }
+}
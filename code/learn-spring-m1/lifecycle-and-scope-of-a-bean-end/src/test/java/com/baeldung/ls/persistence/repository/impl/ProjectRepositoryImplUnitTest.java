@@ -8,6 +8,6 @@ class ProjectRepositoryImplUnitTest {
 
     @Test
     void findById_givenDummyId_returnsEmpty() {
-        assertFalse(new ProjectRepositoryImpl().findById(123L).isPresent());
+        assertFalse(new ProjectRepositoryImpl(new ProjectStore(), new HiLoIdGenerator(1024)).findById(123L).isPresent());
     }
 }
\ No newline at end of file
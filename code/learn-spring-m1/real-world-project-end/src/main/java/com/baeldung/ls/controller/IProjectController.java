@@ -2,8 +2,11 @@ package com.baeldung.ls.controller;
 
 import com.baeldung.ls.persistence.model.Project;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -14,7 +17,12 @@ public interface IProjectController {
     Project findOne(@PathVariable Long id);
     @GetMapping
     Collection<Project> findAll();
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAll();
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     Project create(@RequestBody Project project);
+    @PostMapping(value = "/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    List<Project> createAll(@RequestBody List<Project> projects);
 }
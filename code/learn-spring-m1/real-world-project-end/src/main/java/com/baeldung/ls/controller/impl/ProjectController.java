@@ -3,18 +3,34 @@ package com.baeldung.ls.controller.impl;
 import com.baeldung.ls.controller.IProjectController;
 import com.baeldung.ls.persistence.model.Project;
 import com.baeldung.ls.service.IProjectService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 public class ProjectController implements IProjectController {
     IProjectService projectService;
 
-    public ProjectController(IProjectService projectService) {
+    // no flush per project, the generator's buffer is written out as response chunks whenever it fills up
+    ObjectWriter projectWriter;
+
+    public ProjectController(IProjectService projectService, ObjectMapper objectMapper) {
         this.projectService = projectService;
+        this.projectWriter = objectMapper.writerFor(Project.class)
+                .withRootValueSeparator("")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @Override
@@ -28,8 +44,28 @@ public class ProjectController implements IProjectController {
         return projectService.findAll();
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<Project> projects = projectService.streamAll();
+                 JsonGenerator generator = projectWriter.createGenerator(outputStream)) {
+                Iterator<Project> iterator = projects.iterator();
+                while (iterator.hasNext()) {
+                    projectWriter.writeValue(generator, iterator.next());
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Override
     public Project create(Project project) {
         return projectService.save(project);
     }
+
+    @Override
+    public List<Project> createAll(List<Project> projects) {
+        return projectService.saveAll(projects);
+    }
 }
\ No newline at end of file
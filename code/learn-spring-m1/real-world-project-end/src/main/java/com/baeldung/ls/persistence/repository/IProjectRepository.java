@@ -1,7 +1,9 @@
 package com.baeldung.ls.persistence.repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.baeldung.ls.persistence.model.Project;
 
@@ -11,5 +13,22 @@ public interface IProjectRepository {
 
     Collection<Project> findAll();
 
+    /**
+     * Walks the store without copying it, so memory stays constant regardless of the store size. The stream is weakly
+     * consistent: projects saved while it is consumed may or may not show up.
+     */
+    Stream<Project> streamAll();
+
     Project save(Project project);
+
+    /**
+     * Saves the whole batch at once: stores publish a single new version with all of it, once per batch instead of
+     * once per project.
+     */
+    List<Project> saveAll(Collection<Project> projects);
+
+    /**
+     * @return the projects found, in the order of {@code ids}, unknown ids are skipped
+     */
+    List<Project> findAllById(Collection<Long> ids);
 }
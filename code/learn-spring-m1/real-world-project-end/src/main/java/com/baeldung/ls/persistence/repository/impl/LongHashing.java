@@ -0,0 +1,32 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+/**
+ * Hashing and sizing shared by the versioned project tables keyed by a primitive {@code long} id.
+ */
+final class LongHashing {
+
+    private LongHashing() {
+    }
+
+    /**
+     * Spreads {@code key} over all 64 bits. Multiplying by an odd constant is a bijection, so distinct keys never
+     * collide on the full result.
+     */
+    static long mix(long key) {
+        return key * 0x9E3779B97F4A7C15L;
+    }
+
+    static int hash(long key) {
+        long h = mix(key);
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * @return log2 of the chunk length for a table of {@code capacity} slots, a power of two: about the square root of
+     *         the capacity and at least 1024 slots, so that a write copies about as many chunk references as slots
+     */
+    static int chunkShift(int capacity) {
+        int bits = Integer.numberOfTrailingZeros(capacity);
+        return Math.max(Math.min(10, bits), (bits + 1) / 2);
+    }
+}
@@ -0,0 +1,328 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Keeps projects outside the Java heap as compact binary records in direct {@link ByteBuffer} slabs.
+ * <p>
+ * Records use the {@link ProjectRecordCodec} layout and are append-only: saving an existing id writes a new record
+ * and repoints the index, the old bytes are not reclaimed. The only heap footprint per project is one id/address pair
+ * in the index, {@link Project} objects are materialized on every read.
+ * <p>
+ * The index is published as immutable {@link Index} versions, like {@link ProjectLongHashMap}: a write copies the
+ * index chunks it changes and publishes the new version with a single volatile write, readers never lock. A version
+ * only points at records written before it was published, which are never overwritten.
+ */
+public class OffHeapProjectStore {
+
+    static final int DEFAULT_SLAB_SIZE = 1 << 20;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final int slabSize;
+
+    // copied when a slab is added, so that published versions keep the array they were built with
+    private ByteBuffer[] slabs = new ByteBuffer[0];
+
+    private ByteBuffer current;
+
+    private volatile Index index;
+
+    public OffHeapProjectStore() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    public OffHeapProjectStore(int slabSize) {
+        this.slabSize = slabSize;
+        newSlab();
+        index = Index.empty(INITIAL_CAPACITY, slabs);
+    }
+
+    public Project get(long id) {
+        return index.get(id);
+    }
+
+    public void put(Project project) {
+        writeLock.lock();
+        try {
+            Writer writer = new Writer(index);
+            write(writer, project, true);
+            index = writer.publish(slabs);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return {@code false}, without writing anything, if a record with the same id is already stored
+     */
+    public boolean putIfAbsent(Project project) {
+        writeLock.lock();
+        try {
+            if (index.addressOf(project.getId()) != 0) {
+                return false;
+            }
+            Writer writer = new Writer(index);
+            write(writer, project, false);
+            index = writer.publish(slabs);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes all {@code projects} and publishes them as one new version, replacing records with the same id. A
+     * project without an id is given the first id from {@code idSource} that is not taken yet.
+     */
+    public void putAll(Collection<Project> projects, LongSupplier idSource) {
+        writeLock.lock();
+        try {
+            Writer writer = new Writer(index);
+            for (Project project : projects) {
+                if (project.getId() == null) {
+                    do {
+                        project.setId(idSource.getAsLong());
+                    } while (!write(writer, project, false));
+                } else {
+                    write(writer, project, true);
+                }
+            }
+            index = writer.publish(slabs);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return index.size;
+    }
+
+    /**
+     * @return the current version, an unmodifiable view that decodes each record from its slab when it is iterated
+     *         and that later writes never change
+     */
+    public Collection<Project> values() {
+        return index;
+    }
+
+    public Stream<Project> stream() {
+        return index.stream();
+    }
+
+    // callers hold the write lock
+    private boolean write(Writer writer, Project project, boolean replace) {
+        byte[] name = ProjectRecordCodec.encodeName(project);
+        int recordSize = ProjectRecordCodec.sizeOf(name);
+        if (recordSize > slabSize) {
+            throw new IllegalArgumentException("Project record of " + recordSize + " bytes does not fit in a slab of " + slabSize + " bytes");
+        }
+        if (!replace && writer.addressOf(project.getId()) != 0) {
+            return false;
+        }
+        if (current.remaining() < recordSize) {
+            newSlab();
+        }
+        long address = ((long) (slabs.length - 1) << 32) | current.position();
+        ProjectRecordCodec.write(current, project, name);
+        writer.insert(project.getId(), address + 1);
+        return true;
+    }
+
+    private void newSlab() {
+        current = ByteBuffer.allocateDirect(slabSize);
+        slabs = Arrays.copyOf(slabs, slabs.length + 1);
+        slabs[slabs.length - 1] = current;
+    }
+
+    // one published version of the id -> address index, addresses are stored off by one so 0 marks a free slot
+    private static final class Index extends AbstractCollection<Project> {
+
+        final long[][] ids;
+
+        final long[][] addresses;
+
+        final ByteBuffer[] slabs;
+
+        final int size;
+
+        final int capacity;
+
+        final int shift;
+
+        Index(long[][] ids, long[][] addresses, ByteBuffer[] slabs, int size, int capacity) {
+            this.ids = ids;
+            this.addresses = addresses;
+            this.slabs = slabs;
+            this.size = size;
+            this.capacity = capacity;
+            this.shift = Integer.numberOfTrailingZeros(capacity / ids.length);
+        }
+
+        static Index empty(int capacity, ByteBuffer[] slabs) {
+            int chunks = capacity >>> LongHashing.chunkShift(capacity);
+            long[][] ids = new long[chunks][];
+            long[][] addresses = new long[chunks][];
+            for (int i = 0; i < chunks; i++) {
+                ids[i] = new long[capacity / chunks];
+                addresses[i] = new long[capacity / chunks];
+            }
+            return new Index(ids, addresses, slabs, 0, capacity);
+        }
+
+        Project get(long id) {
+            long address = addressOf(id);
+            return address == 0 ? null : read(address - 1);
+        }
+
+        long addressOf(long id) {
+            int mask = capacity - 1;
+            int chunkMask = (1 << shift) - 1;
+            int slot = LongHashing.hash(id) & mask;
+            while (true) {
+                long address = addresses[slot >>> shift][slot & chunkMask];
+                if (address == 0 || ids[slot >>> shift][slot & chunkMask] == id) {
+                    return address;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Project> iterator() {
+            return new Iterator<>() {
+                private int slot = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < capacity;
+                }
+
+                @Override
+                public Project next() {
+                    if (slot >= capacity) {
+                        throw new NoSuchElementException();
+                    }
+                    Project project = read(addressAt(slot) - 1);
+                    slot = advance(slot + 1);
+                    return project;
+                }
+
+                private int advance(int from) {
+                    while (from < capacity && addressAt(from) == 0) {
+                        from++;
+                    }
+                    return from;
+                }
+            };
+        }
+
+        private long addressAt(int slot) {
+            return addresses[slot >>> shift][slot & ((1 << shift) - 1)];
+        }
+
+        private Project read(long address) {
+            return ProjectRecordCodec.read(slabs[(int) (address >>> 32)], (int) address);
+        }
+    }
+
+    // builds the next index version, copying a chunk the first time it is written to
+    private static final class Writer {
+
+        private long[][] ids;
+
+        private long[][] addresses;
+
+        private boolean[] copied;
+
+        private int size;
+
+        private int capacity;
+
+        private int shift;
+
+        Writer(Index index) {
+            ids = index.ids.clone();
+            addresses = index.addresses.clone();
+            copied = new boolean[ids.length];
+            size = index.size;
+            capacity = index.capacity;
+            shift = index.shift;
+        }
+
+        long addressOf(long id) {
+            int slot = slotOf(id);
+            return addresses[slot >>> shift][slot & ((1 << shift) - 1)];
+        }
+
+        void insert(long id, long address) {
+            int slot = slotOf(id);
+            boolean added = addresses[slot >>> shift][slot & ((1 << shift) - 1)] == 0;
+            set(slot, id, address);
+            if (added && ++size >= capacity / 2) {
+                rehash(capacity << 1);
+            }
+        }
+
+        Index publish(ByteBuffer[] slabs) {
+            return new Index(ids, addresses, slabs, size, capacity);
+        }
+
+        private int slotOf(long id) {
+            int mask = capacity - 1;
+            int chunkMask = (1 << shift) - 1;
+            int slot = LongHashing.hash(id) & mask;
+            while (addresses[slot >>> shift][slot & chunkMask] != 0 && ids[slot >>> shift][slot & chunkMask] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void set(int slot, long id, long address) {
+            int chunk = slot >>> shift;
+            if (!copied[chunk]) {
+                ids[chunk] = ids[chunk].clone();
+                addresses[chunk] = addresses[chunk].clone();
+                copied[chunk] = true;
+            }
+            ids[chunk][slot & ((1 << shift) - 1)] = id;
+            addresses[chunk][slot & ((1 << shift) - 1)] = address;
+        }
+
+        private void rehash(int newCapacity) {
+            long[][] oldIds = ids;
+            long[][] oldAddresses = addresses;
+            Index empty = Index.empty(newCapacity, null);
+            ids = empty.ids;
+            addresses = empty.addresses;
+            copied = new boolean[ids.length];
+            Arrays.fill(copied, true);
+            capacity = newCapacity;
+            shift = empty.shift;
+            for (int chunk = 0; chunk < oldAddresses.length; chunk++) {
+                for (int i = 0; i < oldAddresses[chunk].length; i++) {
+                    if (oldAddresses[chunk][i] != 0) {
+                        set(slotOf(oldIds[chunk][i]), oldIds[chunk][i], oldAddresses[chunk][i]);
+                    }
+                }
+            }
+        }
+    }
+}
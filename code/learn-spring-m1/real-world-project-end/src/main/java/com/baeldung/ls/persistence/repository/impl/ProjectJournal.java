@@ -0,0 +1,268 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Durable storage for the in-memory project repositories: a compact snapshot plus a memory-mapped, append-only log
+ * of every save since that snapshot. While a new snapshot is being written, the saves it covers stay in the previous
+ * log until the snapshot is in place.
+ * <p>
+ * Log entries are {@code length:int | crc32c:int | record}, with records in the {@link ProjectRecordCodec} layout.
+ * The length is written last, so an entry only becomes visible once it is complete; replay stops at the first zero
+ * length or checksum mismatch and cuts the log there. Mapped writes survive a process crash, {@link #force()} is
+ * needed to survive a power loss. The journal is not thread-safe, callers serialize access, except for
+ * {@link #snapshot(Collection)}.
+ */
+public class ProjectJournal implements Closeable {
+
+    static final String SNAPSHOT_FILE = "projects.snapshot";
+
+    static final String LOG_FILE = "projects.log";
+
+    static final String PREVIOUS_LOG_FILE = "projects.log.previous";
+
+    private static final int SNAPSHOT_MAGIC = 0x50524A53;
+
+    private static final int ENTRY_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private static final int LOG_REGION_SIZE = 64 << 20;
+
+    private static final int IO_BUFFER_SIZE = 1 << 20;
+
+    private final Path directory;
+
+    private final CRC32C crc = new CRC32C();
+
+    private FileChannel logChannel;
+
+    private MappedByteBuffer log;
+
+    // file offset at which the current mapping of the log starts
+    private long regionStart;
+
+    public ProjectJournal(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Replays the latest snapshot followed by the previous log, if any, and the log tail into {@code consumer}, then
+     * opens the log for appending.
+     *
+     * @return the number of replayed log entries
+     */
+    public long recover(Consumer<Project> consumer) throws IOException {
+        Files.createDirectories(directory);
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            try (FileChannel channel = FileChannel.open(snapshot, READ)) {
+                RecordReader reader = new RecordReader(channel);
+                reader.require(Integer.BYTES + Long.BYTES);
+                if (reader.buffer.getInt() != SNAPSHOT_MAGIC) {
+                    throw new IOException("Not a project snapshot: " + snapshot);
+                }
+                long count = reader.buffer.getLong();
+                for (long i = 0; i < count; i++) {
+                    consumer.accept(reader.next());
+                }
+            }
+        }
+
+        long replayed = 0;
+        Path previousLog = directory.resolve(PREVIOUS_LOG_FILE);
+        if (Files.exists(previousLog)) {
+            try (FileChannel channel = FileChannel.open(previousLog, READ)) {
+                replayed += replay(channel, consumer).entries();
+            }
+        }
+
+        logChannel = FileChannel.open(directory.resolve(LOG_FILE), CREATE, READ, WRITE);
+        Replay tail = replay(logChannel, consumer);
+        // drop a torn tail so it can never be mistaken for a valid entry later on
+        logChannel.truncate(tail.validLength());
+        map(tail.validLength(), LOG_REGION_SIZE);
+        return replayed + tail.entries();
+    }
+
+    public void append(Project project) {
+        byte[] name = ProjectRecordCodec.encodeName(project);
+        int length = ProjectRecordCodec.sizeOf(name);
+        if (log.remaining() < ENTRY_HEADER_SIZE + length) {
+            map(regionStart + log.position(), Math.max(LOG_REGION_SIZE, ENTRY_HEADER_SIZE + length));
+        }
+        int start = log.position();
+        log.position(start + ENTRY_HEADER_SIZE);
+        ProjectRecordCodec.write(log, project, name);
+        crc.reset();
+        crc.update(log.slice(start + ENTRY_HEADER_SIZE, length));
+        log.putInt(start + Integer.BYTES, (int) crc.getValue());
+        log.putInt(start, length);
+    }
+
+    /**
+     * Closes the log as the previous log and starts an empty one, so that {@link #snapshot(Collection)} can fold the
+     * previous log into a new snapshot while saves keep appending. Does nothing if the previous log has not been
+     * folded into a snapshot yet.
+     */
+    public void rotate() throws IOException {
+        Path previousLog = directory.resolve(PREVIOUS_LOG_FILE);
+        if (Files.exists(previousLog)) {
+            return;
+        }
+        long length = regionStart + log.position();
+        log.force();
+        log = null;
+        logChannel.truncate(length);
+        logChannel.close();
+        Files.move(directory.resolve(LOG_FILE), previousLog, StandardCopyOption.ATOMIC_MOVE);
+        logChannel = FileChannel.open(directory.resolve(LOG_FILE), CREATE_NEW, READ, WRITE);
+        map(0, LOG_REGION_SIZE);
+    }
+
+    /**
+     * Atomically replaces the snapshot with {@code projects} and deletes the previous log, which must not contain any
+     * entry that is missing from {@code projects}. Only touches the snapshot and the previous log, so it may run on
+     * another thread while saves are appended to the log.
+     */
+    public void snapshot(Collection<Project> projects) throws IOException {
+        Path tmp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+            buffer.putInt(SNAPSHOT_MAGIC);
+            buffer.putLong(projects.size());
+            for (Project project : projects) {
+                byte[] name = ProjectRecordCodec.encodeName(project);
+                int size = ProjectRecordCodec.sizeOf(name);
+                if (buffer.remaining() < size) {
+                    drain(channel, buffer);
+                    if (buffer.capacity() < size) {
+                        buffer = ByteBuffer.allocate(size);
+                    }
+                }
+                ProjectRecordCodec.write(buffer, project, name);
+            }
+            drain(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(tmp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(directory.resolve(PREVIOUS_LOG_FILE));
+    }
+
+    public void force() {
+        log.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (logChannel != null) {
+            force();
+            long length = regionStart + log.position();
+            log = null;
+            logChannel.truncate(length);
+            logChannel.close();
+        }
+    }
+
+    private Replay replay(FileChannel channel, Consumer<Project> consumer) throws IOException {
+        long replayed = 0;
+        long validLength = 0;
+        RecordReader reader = new RecordReader(channel);
+        while (reader.available(ENTRY_HEADER_SIZE)) {
+            int length = reader.buffer.getInt(reader.buffer.position());
+            if (length <= 0 || !reader.available(ENTRY_HEADER_SIZE + length)) {
+                break;
+            }
+            int checksum = reader.buffer.getInt(reader.buffer.position() + Integer.BYTES);
+            reader.buffer.position(reader.buffer.position() + ENTRY_HEADER_SIZE);
+            crc.reset();
+            crc.update(reader.buffer.slice(reader.buffer.position(), length));
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            consumer.accept(reader.next());
+            validLength += ENTRY_HEADER_SIZE + length;
+            replayed++;
+        }
+        return new Replay(replayed, validLength);
+    }
+
+    private record Replay(long entries, long validLength) {
+    }
+
+    private void map(long position, int size) {
+        try {
+            if (log != null) {
+                log.force();
+            }
+            regionStart = position;
+            log = logChannel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Sequential reader over a channel through a reusable direct buffer, records may span buffer refills.
+     */
+    private static class RecordReader {
+
+        private final FileChannel channel;
+
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE).flip();
+
+        private boolean eof;
+
+        RecordReader(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        Project next() throws IOException {
+            require(ProjectRecordCodec.HEADER_SIZE);
+            int size = ProjectRecordCodec.sizeAt(buffer, buffer.position());
+            require(size);
+            Project project = ProjectRecordCodec.read(buffer, buffer.position());
+            buffer.position(buffer.position() + size);
+            return project;
+        }
+
+        void require(int bytes) throws IOException {
+            if (!available(bytes)) {
+                throw new IOException("Unexpected end of " + channel);
+            }
+        }
+
+        boolean available(int bytes) throws IOException {
+            if (bytes > buffer.capacity()) {
+                buffer = ByteBuffer.allocateDirect(bytes).put(buffer).flip();
+            }
+            while (buffer.remaining() < bytes && !eof) {
+                buffer.compact();
+                eof = channel.read(buffer) < 0;
+                buffer.flip();
+            }
+            return buffer.remaining() >= bytes;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Open-addressing hash table keyed by a primitive {@code long} id.
+ * <p>
+ * Keys live in {@code long[]} chunks and values in parallel {@code Project[]} chunks, a slot is free when its value is
+ * {@code null}. Every write publishes a new immutable {@link Table} with a single volatile write: it copies the chunks
+ * it changes and shares all others with the previous version. Readers never lock, neither the hit path nor
+ * {@link #values()}, which returns the current version itself. Writers take an exclusive lock. Entries are never
+ * removed, so linear probing needs no tombstones.
+ */
+public class ProjectLongHashMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Table table;
+
+    public ProjectLongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ProjectLongHashMap(int expectedSize) {
+        table = Table.empty(tableSizeFor(expectedSize));
+    }
+
+    public Project get(long key) {
+        return table.get(key);
+    }
+
+    /**
+     * @return the previous value mapped to {@code key}, or {@code null} if there was none
+     */
+    public Project put(long key, Project value) {
+        writeLock.lock();
+        try {
+            Writer writer = new Writer(table);
+            Project previous = writer.insert(key, value, true);
+            table = writer.publish();
+            return previous;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return the value already mapped to {@code key}, or {@code null} if {@code value} was stored
+     */
+    public Project putIfAbsent(long key, Project value) {
+        writeLock.lock();
+        try {
+            Project existing = table.get(key);
+            if (existing == null) {
+                Writer writer = new Writer(table);
+                writer.insert(key, value, false);
+                table = writer.publish();
+            }
+            return existing;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stores all {@code projects} as one new version, replacing entries with the same id. A project without an id is
+     * given the first id from {@code idSource} that is not taken yet.
+     */
+    public void putAll(Collection<Project> projects, LongSupplier idSource) {
+        writeLock.lock();
+        try {
+            Writer writer = new Writer(table);
+            for (Project project : projects) {
+                if (project.getId() == null) {
+                    do {
+                        project.setId(idSource.getAsLong());
+                    } while (writer.insert(project.getId(), project, false) != null);
+                } else {
+                    writer.insert(project.getId(), project, true);
+                }
+            }
+            table = writer.publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Starts a batch of puts that becomes visible as one new version when it is published. Other writers wait until
+     * then, the batch must be published by the thread that started it.
+     */
+    public Batch batch() {
+        writeLock.lock();
+        return new Batch(new Writer(table));
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    /**
+     * @return the current version, an unmodifiable view that later writes never change
+     */
+    public Collection<Project> values() {
+        return table;
+    }
+
+    public Stream<Project> stream() {
+        return table.stream();
+    }
+
+    public final class Batch {
+
+        private final Writer writer;
+
+        private Batch(Writer writer) {
+            this.writer = writer;
+        }
+
+        public void put(long key, Project value) {
+            writer.insert(key, value, true);
+        }
+
+        public void publish() {
+            try {
+                table = writer.publish();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+        return Math.max(capacity, DEFAULT_CAPACITY);
+    }
+
+    private static final class Table extends AbstractCollection<Project> {
+
+        final long[][] keys;
+
+        final Project[][] values;
+
+        final int size;
+
+        final int capacity;
+
+        final int shift;
+
+        Table(long[][] keys, Project[][] values, int size, int capacity) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+            this.capacity = capacity;
+            this.shift = Integer.numberOfTrailingZeros(capacity / keys.length);
+        }
+
+        static Table empty(int capacity) {
+            int chunks = capacity >>> LongHashing.chunkShift(capacity);
+            long[][] keys = new long[chunks][];
+            Project[][] values = new Project[chunks][];
+            for (int i = 0; i < chunks; i++) {
+                keys[i] = new long[capacity / chunks];
+                values[i] = new Project[capacity / chunks];
+            }
+            return new Table(keys, values, 0, capacity);
+        }
+
+        Project get(long key) {
+            int mask = capacity - 1;
+            int chunkMask = (1 << shift) - 1;
+            int index = LongHashing.hash(key) & mask;
+            while (true) {
+                Project value = values[index >>> shift][index & chunkMask];
+                if (value == null || keys[index >>> shift][index & chunkMask] == key) {
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Project> iterator() {
+            return new Iterator<>() {
+                private int slot = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < capacity;
+                }
+
+                @Override
+                public Project next() {
+                    if (slot >= capacity) {
+                        throw new NoSuchElementException();
+                    }
+                    Project value = valueAt(slot);
+                    slot = advance(slot + 1);
+                    return value;
+                }
+
+                private int advance(int from) {
+                    while (from < capacity && valueAt(from) == null) {
+                        from++;
+                    }
+                    return from;
+                }
+            };
+        }
+
+        private Project valueAt(int slot) {
+            return values[slot >>> shift][slot & ((1 << shift) - 1)];
+        }
+    }
+
+    // builds the next version, copying a chunk the first time it is written to
+    private static final class Writer {
+
+        private long[][] keys;
+
+        private Project[][] values;
+
+        private boolean[] copied;
+
+        private int size;
+
+        private int capacity;
+
+        private int shift;
+
+        Writer(Table table) {
+            keys = table.keys.clone();
+            values = table.values.clone();
+            copied = new boolean[keys.length];
+            size = table.size;
+            capacity = table.capacity;
+            shift = table.shift;
+        }
+
+        Project insert(long key, Project value, boolean replace) {
+            int mask = capacity - 1;
+            int chunkMask = (1 << shift) - 1;
+            int index = LongHashing.hash(key) & mask;
+            while (true) {
+                Project current = values[index >>> shift][index & chunkMask];
+                if (current == null) {
+                    break;
+                }
+                if (keys[index >>> shift][index & chunkMask] == key) {
+                    if (replace) {
+                        set(index, key, value);
+                    }
+                    return current;
+                }
+                index = (index + 1) & mask;
+            }
+            set(index, key, value);
+            if (++size >= capacity * LOAD_FACTOR) {
+                rehash(capacity << 1);
+            }
+            return null;
+        }
+
+        Table publish() {
+            return new Table(keys, values, size, capacity);
+        }
+
+        private void set(int index, long key, Project value) {
+            int chunk = index >>> shift;
+            if (!copied[chunk]) {
+                keys[chunk] = keys[chunk].clone();
+                values[chunk] = values[chunk].clone();
+                copied[chunk] = true;
+            }
+            keys[chunk][index & ((1 << shift) - 1)] = key;
+            values[chunk][index & ((1 << shift) - 1)] = value;
+        }
+
+        private void rehash(int newCapacity) {
+            Table old = publish();
+            Table empty = Table.empty(newCapacity);
+            keys = empty.keys;
+            values = empty.values;
+            copied = new boolean[keys.length];
+            Arrays.fill(copied, true);
+            size = 0;
+            capacity = newCapacity;
+            shift = empty.shift;
+            int mask = capacity - 1;
+            int chunkMask = (1 << shift) - 1;
+            for (int chunk = 0; chunk < old.values.length; chunk++) {
+                for (int i = 0; i < old.values[chunk].length; i++) {
+                    Project value = old.values[chunk][i];
+                    if (value != null) {
+                        long key = old.keys[chunk][i];
+                        int index = LongHashing.hash(key) & mask;
+                        while (values[index >>> shift][index & chunkMask] != null) {
+                            index = (index + 1) & mask;
+                        }
+                        set(index, key, value);
+                        size++;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Binary layout shared by the off-heap store and the journal:
+ * {@code id:long | epochDay:long | nameLength:int | name:UTF-8 bytes}, where {@link Long#MIN_VALUE} marks a null
+ * date and {@code -1} a null name.
+ */
+final class ProjectRecordCodec {
+
+    static final int HEADER_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    private static final int NULL_NAME = -1;
+
+    private ProjectRecordCodec() {
+    }
+
+    static byte[] encodeName(Project project) {
+        return project.getName() == null ? null : project.getName().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int sizeOf(byte[] name) {
+        return HEADER_SIZE + (name == null ? 0 : name.length);
+    }
+
+    /**
+     * Writes the record at the buffer's position and advances it.
+     */
+    static void write(ByteBuffer buffer, Project project, byte[] name) {
+        buffer.putLong(project.getId());
+        buffer.putLong(project.getDateCreated() == null ? NULL_DATE : project.getDateCreated().toEpochDay());
+        buffer.putInt(name == null ? NULL_NAME : name.length);
+        if (name != null) {
+            buffer.put(name);
+        }
+    }
+
+    /**
+     * Reads the record starting at {@code offset} without moving the buffer's position.
+     */
+    static Project read(ByteBuffer buffer, int offset) {
+        long id = buffer.getLong(offset);
+        long epochDay = buffer.getLong(offset + Long.BYTES);
+        int nameLength = buffer.getInt(offset + 2 * Long.BYTES);
+        String name = null;
+        if (nameLength != NULL_NAME) {
+            byte[] bytes = new byte[nameLength];
+            buffer.get(offset + HEADER_SIZE, bytes);
+            name = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new Project(id, name, epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * @return the size of the record starting at {@code offset}
+     */
+    static int sizeAt(ByteBuffer buffer, int offset) {
+        int nameLength = buffer.getInt(offset + 2 * Long.BYTES);
+        return HEADER_SIZE + (nameLength == NULL_NAME ? 0 : nameLength);
+    }
+}
@@ -1,36 +1,98 @@
 package com.baeldung.ls.persistence.repository.impl;
 
 import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
+/**
+ * Keeps projects in an immutable {@link ProjectTrie} behind an {@link AtomicReference}.
+ * <p>
+ * Writers build the next version from the current one and publish it with a compare-and-set, retrying against the
+ * newer version when another writer won the race. Neither readers nor writers lock, and {@link #findAll()} returns
+ * the current version itself, which later saves never change.
+ */
+@ConditionalOnProperty(name = "project.repository.backend", havingValue = "concurrent-map", matchIfMissing = true)
 @Repository
 public class ProjectRepositoryImpl implements IProjectRepository {
-    private final List<Project> projects = new ArrayList<>();
+    private final AtomicReference<ProjectTrie> projects = new AtomicReference<>(ProjectTrie.EMPTY);
+
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryImpl(IIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
 
     @Override
     public Optional<Project> findById(Long id) {
-        return projects.stream().filter(p -> p.getId().equals(id)).findFirst();
+        if (Objects.isNull(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(projects.get().get(id));
     }
 
     @Override
     public Collection<Project> findAll() {
-        return projects;
+        return projects.get();
+    }
+
+    @Override
+    public Stream<Project> streamAll() {
+        return projects.get().stream();
     }
 
     @Override
     public Project save(Project project) {
         Project toSave = new Project(project);
-        if (Objects.isNull(toSave.getId())) {
-            toSave.setId(new Random().nextLong(1_000_000L));
-        }
-        Optional<Project> existingProject = findById(project.getId());
-        if (existingProject.isPresent()) {
-            projects.remove(existingProject);
+        boolean generateId = Objects.isNull(toSave.getId());
+        ProjectTrie current;
+        ProjectTrie next;
+        do {
+            current = projects.get();
+            // an explicitly saved project may already hold the generated id, never overwrite it
+            while (generateId && (Objects.isNull(toSave.getId()) || current.get(toSave.getId()) != null)) {
+                toSave.setId(idGenerator.nextId());
+            }
+            next = current.with(toSave);
+        } while (!projects.compareAndSet(current, next));
+        return toSave;
+    }
+
+    @Override
+    public List<Project> saveAll(Collection<Project> projects) {
+        List<Project> toSave = new ArrayList<>(projects.size());
+        boolean[] generateId = new boolean[projects.size()];
+        for (Project project : projects) {
+            generateId[toSave.size()] = Objects.isNull(project.getId());
+            toSave.add(new Project(project));
         }
-        projects.add(toSave);
+        ProjectTrie current;
+        ProjectTrie next;
+        do {
+            current = this.projects.get();
+            next = current;
+            for (int i = 0; i < toSave.size(); i++) {
+                Project project = toSave.get(i);
+                while (generateId[i] && (Objects.isNull(project.getId()) || next.get(project.getId()) != null)) {
+                    project.setId(idGenerator.nextId());
+                }
+                next = next.with(project);
+            }
+        } while (!this.projects.compareAndSet(current, next));
         return toSave;
     }
+
+    @Override
+    public List<Project> findAllById(Collection<Long> ids) {
+        List<Project> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
 }
@@ -0,0 +1,172 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
+import com.baeldung.ls.persistence.repository.IProjectRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory store that survives restarts: every save is appended to a {@link ProjectJournal} and a snapshot is
+ * written every {@code project.repository.journal.snapshot-interval} saves. The saving thread only rotates the log and
+ * captures the current immutable version of the store, a background thread writes that version out.
+ */
+@ConditionalOnProperty(name = "project.repository.backend", havingValue = "journaled")
+@Repository
+public class ProjectRepositoryJournaledImpl implements IProjectRepository {
+    private static final Logger LOG = LoggerFactory.getLogger(ProjectRepositoryJournaledImpl.class);
+
+    private final ProjectLongHashMap projects = new ProjectLongHashMap();
+
+    private final ProjectJournal journal;
+
+    private final IIdGenerator idGenerator;
+
+    private final int snapshotInterval;
+
+    private final ExecutorService snapshotWriter = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "project-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private int savesSinceSnapshot;
+
+    private CompletableFuture<Void> pendingSnapshot = CompletableFuture.completedFuture(null);
+
+    public ProjectRepositoryJournaledImpl(@Value("${project.repository.journal.directory:data}") Path directory,
+                                          @Value("${project.repository.journal.snapshot-interval:100000}") int snapshotInterval,
+                                          IIdGenerator idGenerator) {
+        this.journal = new ProjectJournal(directory);
+        this.idGenerator = idGenerator;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        long start = System.nanoTime();
+        // one new version for the whole replay instead of one per record
+        ProjectLongHashMap.Batch batch = projects.batch();
+        long replayed;
+        try {
+            replayed = journal.recover(p -> {
+                batch.put(p.getId(), p);
+                idGenerator.advancePast(p.getId());
+            });
+        } finally {
+            batch.publish();
+        }
+        LOG.info("Recovered {} projects ({} log entries) in {} ms", projects.size(), replayed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        pendingSnapshot.join();
+        snapshotWriter.shutdown();
+        journal.close();
+    }
+
+    @Override
+    public Optional<Project> findById(Long id) {
+        if (Objects.isNull(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(projects.get(id));
+    }
+
+    @Override
+    public Collection<Project> findAll() {
+        return projects.values();
+    }
+
+    @Override
+    public Stream<Project> streamAll() {
+        return projects.stream();
+    }
+
+    @Override
+    public synchronized Project save(Project project) {
+        Project toSave = new Project(project);
+        if (Objects.isNull(toSave.getId())) {
+            do {
+                toSave.setId(idGenerator.nextId());
+            } while (projects.putIfAbsent(toSave.getId(), toSave) != null);
+        } else {
+            projects.put(toSave.getId(), toSave);
+        }
+        journal.append(toSave);
+        if (++savesSinceSnapshot >= snapshotInterval) {
+            snapshot();
+        }
+        return toSave;
+    }
+
+    @Override
+    public synchronized List<Project> saveAll(Collection<Project> projects) {
+        List<Project> toSave = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            toSave.add(new Project(project));
+        }
+        this.projects.putAll(toSave, idGenerator::nextId);
+        for (Project project : toSave) {
+            journal.append(project);
+        }
+        savesSinceSnapshot += toSave.size();
+        if (savesSinceSnapshot >= snapshotInterval) {
+            snapshot();
+        }
+        return toSave;
+    }
+
+    @Override
+    public List<Project> findAllById(Collection<Long> ids) {
+        List<Project> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * Rotates the log and starts writing the current version as the new snapshot on a background thread, unless a
+     * snapshot is still being written.
+     *
+     * @return completes once the snapshot is in place, or has failed and been logged
+     */
+    public synchronized CompletableFuture<Void> snapshot() {
+        if (!pendingSnapshot.isDone()) {
+            return pendingSnapshot;
+        }
+        try {
+            journal.rotate();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // every save in the previous log is part of this version, saves are serialized on this lock
+        Collection<Project> version = projects.values();
+        savesSinceSnapshot = 0;
+        pendingSnapshot = CompletableFuture.runAsync(() -> {
+            try {
+                journal.snapshot(version);
+            } catch (IOException e) {
+                // the previous log is kept, so nothing is lost and the next snapshot retries
+                LOG.error("Could not write the project snapshot", e);
+            }
+        }, snapshotWriter);
+        return pendingSnapshot;
+    }
+}
@@ -0,0 +1,72 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
+import com.baeldung.ls.persistence.repository.IProjectRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+@ConditionalOnProperty(name = "project.repository.backend", havingValue = "long-map")
+@Repository
+public class ProjectRepositoryLongMapImpl implements IProjectRepository {
+    private final ProjectLongHashMap projects = new ProjectLongHashMap();
+
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryLongMapImpl(IIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Optional<Project> findById(Long id) {
+        if (Objects.isNull(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(projects.get(id));
+    }
+
+    @Override
+    public Collection<Project> findAll() {
+        return projects.values();
+    }
+
+    @Override
+    public Stream<Project> streamAll() {
+        return projects.stream();
+    }
+
+    @Override
+    public Project save(Project project) {
+        Project toSave = new Project(project);
+        if (Objects.isNull(toSave.getId())) {
+            do {
+                toSave.setId(idGenerator.nextId());
+            } while (projects.putIfAbsent(toSave.getId(), toSave) != null);
+        } else {
+            projects.put(toSave.getId(), toSave);
+        }
+        return toSave;
+    }
+
+    @Override
+    public List<Project> saveAll(Collection<Project> projects) {
+        List<Project> toSave = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            toSave.add(new Project(project));
+        }
+        this.projects.putAll(toSave, idGenerator::nextId);
+        return toSave;
+    }
+
+    @Override
+    public List<Project> findAllById(Collection<Long> ids) {
+        List<Project> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+}
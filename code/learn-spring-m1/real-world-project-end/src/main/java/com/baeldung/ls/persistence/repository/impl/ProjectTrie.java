@@ -0,0 +1,159 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable hash trie of projects keyed by their id.
+ * <p>
+ * Each node consumes five bits of the mixed id and stores only its present children, indexed by a 32-bit bitmap. A
+ * child is either a nested node or the {@link Project} itself. {@link #with(Project)} copies the path from the root
+ * to the changed leaf and shares everything else, so a new version costs a handful of small arrays and every earlier
+ * version stays valid. The mixed id is a bijection of the id, two ids always part before the bits run out.
+ */
+final class ProjectTrie extends AbstractCollection<Project> {
+
+    static final ProjectTrie EMPTY = new ProjectTrie(new Node(0, new Object[0]), 0);
+
+    private static final int BITS = 5;
+
+    private static final int MAX_DEPTH = (Long.SIZE + BITS - 1) / BITS;
+
+    private final Node root;
+
+    private final int size;
+
+    private ProjectTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    Project get(long id) {
+        long hash = LongHashing.mix(id);
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = node.bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object child = node.slots[node.index(bit)];
+            if (child instanceof Project project) {
+                return project.getId() == id ? project : null;
+            }
+            node = (Node) child;
+        }
+    }
+
+    /**
+     * @return a version that maps the id of {@code project} to it, replacing an earlier project with the same id
+     */
+    ProjectTrie with(Project project) {
+        int newSize = get(project.getId()) == null ? size + 1 : size;
+        return new ProjectTrie(insert(root, project, LongHashing.mix(project.getId()), 0), newSize);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Project> iterator() {
+        return new Iterator<>() {
+            private final Node[] nodes = new Node[MAX_DEPTH + 1];
+
+            private final int[] positions = new int[MAX_DEPTH + 1];
+
+            private int depth;
+
+            private Project next;
+
+            {
+                nodes[0] = root;
+                next = advance();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Project next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Project current = next;
+                next = advance();
+                return current;
+            }
+
+            private Project advance() {
+                while (depth >= 0) {
+                    Node node = nodes[depth];
+                    if (positions[depth] == node.slots.length) {
+                        depth--;
+                        continue;
+                    }
+                    Object child = node.slots[positions[depth]++];
+                    if (child instanceof Project project) {
+                        return project;
+                    }
+                    nodes[++depth] = (Node) child;
+                    positions[depth] = 0;
+                }
+                return null;
+            }
+        };
+    }
+
+    private static Node insert(Node node, Project project, long hash, int shift) {
+        int bit = node.bit(hash, shift);
+        int index = node.index(bit);
+        if ((node.bitmap & bit) == 0) {
+            Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            slots[index] = project;
+            System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+            return new Node(node.bitmap | bit, slots);
+        }
+        Object child = node.slots[index];
+        Object replacement;
+        if (child instanceof Node nested) {
+            replacement = insert(nested, project, hash, shift + BITS);
+        } else if (((Project) child).getId().equals(project.getId())) {
+            replacement = project;
+        } else {
+            Project existing = (Project) child;
+            replacement = split(existing, LongHashing.mix(existing.getId()), project, hash, shift + BITS);
+        }
+        Object[] slots = node.slots.clone();
+        slots[index] = replacement;
+        return new Node(node.bitmap, slots);
+    }
+
+    // a node holding two projects whose hashes agree on the bits before shift
+    private static Node split(Project first, long firstHash, Project second, long secondHash, int shift) {
+        int firstFragment = (int) (firstHash >>> shift) & 31;
+        int secondFragment = (int) (secondHash >>> shift) & 31;
+        if (firstFragment == secondFragment) {
+            return new Node(1 << firstFragment, new Object[] { split(first, firstHash, second, secondHash, shift + BITS) });
+        }
+        Object[] slots = firstFragment < secondFragment ? new Object[] { first, second } : new Object[] { second, first };
+        return new Node((1 << firstFragment) | (1 << secondFragment), slots);
+    }
+
+    private record Node(int bitmap, Object[] slots) {
+
+        int bit(long hash, int shift) {
+            return 1 << ((int) (hash >>> shift) & 31);
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+}
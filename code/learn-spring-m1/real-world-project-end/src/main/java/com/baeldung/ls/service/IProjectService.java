@@ -1,7 +1,9 @@
 package com.baeldung.ls.service;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.baeldung.ls.persistence.model.Project;
 
@@ -10,5 +12,11 @@ public interface IProjectService {
 
     Collection<Project> findAll();
 
+    Stream<Project> streamAll();
+
     Project save(Project project);
+
+    List<Project> saveAll(Collection<Project> projects);
+
+    List<Project> findAllById(Collection<Long> ids);
 }
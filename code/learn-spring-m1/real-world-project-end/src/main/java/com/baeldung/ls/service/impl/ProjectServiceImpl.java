@@ -1,7 +1,9 @@
 package com.baeldung.ls.service.impl;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -30,8 +32,23 @@ public class ProjectServiceImpl implements IProjectService {
         return projectRepository.findAll();
     }
 
+    @Override
+    public Stream<Project> streamAll() {
+        return projectRepository.streamAll();
+    }
+
     @Override
     public Project save(Project project) {
         return projectRepository.save(project);
     }
+
+    @Override
+    public List<Project> saveAll(Collection<Project> projects) {
+        return projectRepository.saveAll(projects);
+    }
+
+    @Override
+    public List<Project> findAllById(Collection<Long> ids) {
+        return projectRepository.findAllById(ids);
+    }
 }
@@ -0,0 +1,34 @@
+package com.baeldung.ls.benchmark;
+
+import com.baeldung.ls.persistence.repository.impl.HiLoIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation throughput with 32 concurrent writers, the hi/lo generator against the per-id {@link Random} the
+ * repositories used before. The writers only contend when the machine has enough cores to run them at once, results
+ * from fewer cores mostly measure the single-threaded cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    HiLoIdGenerator hiLo = new HiLoIdGenerator(1024);
+
+    @Benchmark
+    public long hiLo() {
+        return hiLo.nextId();
+    }
+
+    @Benchmark
+    public long newRandom() {
+        return new Random().nextLong(1_000_000L);
+    }
+}
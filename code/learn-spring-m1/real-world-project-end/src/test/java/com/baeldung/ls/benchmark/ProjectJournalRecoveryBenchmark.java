@@ -0,0 +1,81 @@
+package com.baeldung.ls.benchmark;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.impl.ProjectJournal;
+import com.baeldung.ls.persistence.repository.impl.HiLoIdGenerator;
+import com.baeldung.ls.persistence.repository.impl.ProjectRepositoryJournaledImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for the journaled repository to start from a snapshot of {@code size} projects plus a log tail of
+ * {@code logTail} saves: the constructor and {@link ProjectRepositoryJournaledImpl#recover()}, which rebuild the
+ * store and the id generator.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ProjectJournalRecoveryBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    int size;
+
+    @Param({ "100000" })
+    int logTail;
+
+    Path directory;
+
+    ProjectRepositoryJournaledImpl repository;
+
+    @Setup(Level.Trial)
+    public void writeJournal() throws IOException {
+        directory = Files.createTempDirectory("project-journal");
+        LocalDate today = LocalDate.now();
+        try (ProjectJournal journal = new ProjectJournal(directory)) {
+            journal.recover(p -> {
+            });
+            // generated lazily so that the snapshot does not need the whole store on the heap
+            journal.snapshot(new AbstractList<>() {
+                @Override
+                public Project get(int index) {
+                    return new Project((long) index, "Project-" + index, today);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            });
+            for (int i = 0; i < logTail; i++) {
+                journal.append(new Project((long) i * 7, "Project-" + i + "-renamed", today));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJournal() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeRepository() throws IOException {
+        repository.close();
+    }
+
+    @Benchmark
+    public ProjectRepositoryJournaledImpl recover() throws IOException {
+        repository = new ProjectRepositoryJournaledImpl(directory, Integer.MAX_VALUE, new HiLoIdGenerator(1024));
+        repository.recover();
+        return repository;
+    }
+}
@@ -0,0 +1,129 @@
+package com.baeldung.ls.benchmark;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IProjectRepository;
+import com.baeldung.ls.persistence.repository.impl.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findById, save, findAll and a mixed read/write workload for every {@link IProjectRepository} backend of this
+ * module. Saves overwrite existing ids so that the store keeps its size during a run.
+ * <p>
+ * Run {@link #main} to cover several thread counts, results go to {@code target/jmh-repository-<threads>t.json}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ProjectRepositoryBenchmark {
+
+    @Param({ "concurrent-map", "long-map", "off-heap", "journaled" })
+    String backend;
+
+    @Param({ "1000", "100000", "1000000" })
+    int size;
+
+    IProjectRepository repository;
+
+    Path journalDirectory;
+
+    @Setup(Level.Trial)
+    public void fill() throws IOException {
+        HiLoIdGenerator idGenerator = new HiLoIdGenerator(1024);
+        repository = switch (backend) {
+            case "concurrent-map" -> new ProjectRepositoryImpl(idGenerator);
+            case "long-map" -> new ProjectRepositoryLongMapImpl(idGenerator);
+            case "off-heap" -> new ProjectRepositoryOffHeapImpl(idGenerator);
+            case "journaled" -> {
+                journalDirectory = Files.createTempDirectory("project-journal");
+                ProjectRepositoryJournaledImpl journaled = new ProjectRepositoryJournaledImpl(journalDirectory, 100_000, idGenerator);
+                journaled.recover();
+                yield journaled;
+            }
+            default -> throw new IllegalArgumentException("Unknown backend " + backend);
+        };
+        List<Project> projects = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            projects.add(new Project(id, "Project-" + id, LocalDate.now()));
+        }
+        repository.saveAll(projects);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        if (repository instanceof ProjectRepositoryJournaledImpl journaled) {
+            journaled.close();
+            FileSystemUtils.deleteRecursively(journalDirectory);
+        }
+    }
+
+    @Benchmark
+    public Object findById() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public Project save() {
+        return repository.save(new Project(randomId(), "Project", LocalDate.now()));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int findAll() {
+        // consumes the whole collection, findAll on its own returns the version published by the last write
+        int count = 0;
+        for (Project project : repository.findAll()) {
+            count += project.getName().length();
+        }
+        return count;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Object mixedRead() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Project mixedWrite() {
+        return repository.save(new Project(randomId(), "Project", LocalDate.now()));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, size + 1L);
+    }
+
+    public static void main(String... args) throws Exception {
+        for (int threads : new int[] { 1, 4, 16 }) {
+            new Runner(new OptionsBuilder()
+                    .include(ProjectRepositoryBenchmark.class.getSimpleName() + "\\.(findById|save|findAll)$")
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("target/jmh-repository-" + threads + "t.json")
+                    .build()).run();
+        }
+        new Runner(new OptionsBuilder()
+                .include(ProjectRepositoryBenchmark.class.getSimpleName() + "\\.mixed")
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-repository-mixed.json")
+                .build()).run();
+    }
+}
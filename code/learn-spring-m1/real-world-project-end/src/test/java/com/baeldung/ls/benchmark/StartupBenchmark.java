@@ -0,0 +1,149 @@
+package com.baeldung.ls.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+/**
+ * Launches the packaged application in a fresh JVM per invocation, with and without AOT mode, and measures the
+ * wall-clock time from process start until the application reports it is ready and until the first successful
+ * {@code GET /projects}.
+ * <p>
+ * Needs a jar built with the {@code aot} profile:
+ * {@code mvn -Paot package && mvn -Pbenchmark test-compile exec:exec -Dbenchmark=StartupBenchmark}
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private static final String READY_LINE = "Started LsApp";
+
+    private static final String AOT_INITIALIZER = "BOOT-INF/classes/com/baeldung/ls/LsApp__ApplicationContextInitializer.class";
+
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    @Param({ "false", "true" })
+    boolean aot;
+
+    Path jar;
+
+    HttpClient client;
+
+    Process process;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void locateJar() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("startup.jar.dir", "target")))) {
+            jar = files.filter(file -> file.toString().endsWith(".jar"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No application jar in target, run mvn -Paot package first"));
+        }
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            if (zip.getEntry(AOT_INITIALIZER) == null) {
+                throw new IllegalStateException(jar + " was packaged without AOT processing, run mvn -Paot package first");
+            }
+        }
+        client = HttpClient.newHttpClient();
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+            process = null;
+        }
+    }
+
+    @Benchmark
+    public String timeToReady() throws IOException {
+        process = launch(freePort(), false);
+        List<String> output = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.contains(READY_LINE)) {
+                drain(reader);
+                return line;
+            }
+            output.add(line);
+        }
+        throw new IllegalStateException("Application exited before it was ready:\n" + String.join("\n", output));
+    }
+
+    @Benchmark
+    public int timeToFirstProjectsResponse() throws IOException, InterruptedException {
+        int port = freePort();
+        process = launch(port, true);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/projects")).build();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (process.isAlive() && System.currentTimeMillis() < deadline) {
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(2);
+        }
+        throw new IllegalStateException("No successful GET /projects within " + TIMEOUT_MILLIS + " ms");
+    }
+
+    private Process launch(int port, boolean discardOutput) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        if (discardOutput) {
+            builder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        }
+        return builder.start();
+    }
+
+    // keeps the pipe from filling up while the application is still running
+    private static void drain(BufferedReader reader) {
+        Thread drainer = new Thread(() -> {
+            try {
+                while (reader.readLine() != null) {
+                }
+            } catch (IOException e) {
+                // process went away
+            }
+        });
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapProjectStoreUnitTest {
+
+    @Test
+    void get_givenRecordsAcrossSlabs_materializesEqualProjects() {
+        OffHeapProjectStore store = new OffHeapProjectStore(64);
+        for (long id = 0; id < 100; id++) {
+            store.put(new Project(id, "Project-" + id, LocalDate.ofEpochDay(id)));
+        }
+
+        assertEquals(100, store.size());
+        assertEquals(new Project(42L, "Project-42", LocalDate.ofEpochDay(42)), store.get(42L));
+        assertNull(store.get(100L));
+    }
+
+    @Test
+    void put_givenExistingId_replacesRecord() {
+        OffHeapProjectStore store = new OffHeapProjectStore();
+        store.put(new Project(1L, "P1", LocalDate.now()));
+        store.put(new Project(1L, null, null));
+
+        assertEquals(1, store.size());
+        assertEquals(new Project(1L, null, null), store.get(1L));
+        assertNotSame(store.get(1L), store.get(1L));
+    }
+
+    @Test
+    void values_givenLaterPuts_keepsPreviousVersionUnchanged() {
+        OffHeapProjectStore store = new OffHeapProjectStore(64);
+        store.put(new Project(1L, "P1", LocalDate.now()));
+        Collection<Project> before = store.values();
+
+        store.put(new Project(1L, "P1-renamed", LocalDate.now()));
+        for (long id = 2; id < 100; id++) {
+            store.put(new Project(id, "Project-" + id, LocalDate.ofEpochDay(id)));
+        }
+
+        assertEquals(1, before.size());
+        assertEquals("P1", before.iterator().next().getName());
+        assertEquals(99, store.values().size());
+    }
+
+    @Test
+    void values_givenManyRecords_doesNotCopyThemOntoTheHeap() {
+        OffHeapProjectStore store = new OffHeapProjectStore();
+        List<Project> batch = new ArrayList<>();
+        for (long id = 0; id < 200_000; id++) {
+            batch.add(new Project(id, "Project-" + id, LocalDate.ofEpochDay(id)));
+        }
+        store.putAll(batch, () -> {
+            throw new AssertionError("every project has an id");
+        });
+        batch = null;
+        long heapBefore = usedHeapAfterGc();
+
+        Collection<Project> values = store.values();
+        long nameLengths = 0;
+        for (Project project : values) {
+            nameLengths += project.getName().length();
+        }
+        long retained = usedHeapAfterGc() - heapBefore;
+
+        // a materialized list of 200k projects with their names and dates retains about 18 MB
+        assertTrue(retained < 2 * 1024 * 1024, "findAll view retained " + retained + " bytes");
+        assertEquals(200_000, values.size());
+        assertTrue(nameLengths > 0);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
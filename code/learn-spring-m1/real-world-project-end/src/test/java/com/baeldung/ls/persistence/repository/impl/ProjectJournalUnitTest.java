@@ -0,0 +1,85 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectJournalUnitTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_givenSnapshotAndLogTail_rebuildsLatestState() throws IOException {
+        try (ProjectJournal journal = new ProjectJournal(directory)) {
+            journal.recover(p -> {
+            });
+            journal.append(new Project(1L, "P1", LocalDate.now()));
+            journal.rotate();
+            journal.snapshot(List.of(new Project(1L, "P1", LocalDate.now())));
+            journal.append(new Project(2L, "P2", null));
+            journal.append(new Project(1L, "P1-renamed", LocalDate.now()));
+        }
+
+        Map<Long, Project> recovered = recover();
+
+        assertEquals(2, recovered.size());
+        assertEquals("P1-renamed", recovered.get(1L).getName());
+        assertEquals(new Project(2L, "P2", null), recovered.get(2L));
+    }
+
+    @Test
+    void recover_givenTornLogEntry_stopsAtLastCompleteEntry() throws IOException {
+        try (ProjectJournal journal = new ProjectJournal(directory)) {
+            journal.recover(p -> {
+            });
+            journal.append(new Project(1L, "P1", LocalDate.now()));
+            journal.append(new Project(2L, "P2", LocalDate.now()));
+        }
+        try (FileChannel log = FileChannel.open(directory.resolve(ProjectJournal.LOG_FILE), StandardOpenOption.WRITE)) {
+            log.write(ByteBuffer.wrap(new byte[] { 42 }), log.size() - 1);
+        }
+
+        assertEquals(1, recover().size());
+    }
+
+    @Test
+    void recover_givenRotationWithoutSnapshot_replaysPreviousLogFirst() throws IOException {
+        try (ProjectJournal journal = new ProjectJournal(directory)) {
+            journal.recover(p -> {
+            });
+            journal.append(new Project(1L, "P1", LocalDate.now()));
+            journal.append(new Project(2L, "P2", LocalDate.now()));
+            journal.rotate();
+            journal.append(new Project(1L, "P1-renamed", LocalDate.now()));
+        }
+
+        Map<Long, Project> recovered = recover();
+
+        assertEquals(2, recovered.size());
+        assertEquals("P1-renamed", recovered.get(1L).getName());
+        assertTrue(Files.exists(directory.resolve(ProjectJournal.PREVIOUS_LOG_FILE)));
+    }
+
+    private Map<Long, Project> recover() throws IOException {
+        Map<Long, Project> recovered = new HashMap<>();
+        try (ProjectJournal journal = new ProjectJournal(directory)) {
+            journal.recover(p -> recovered.put(p.getId(), p));
+        }
+        return recovered;
+    }
+}
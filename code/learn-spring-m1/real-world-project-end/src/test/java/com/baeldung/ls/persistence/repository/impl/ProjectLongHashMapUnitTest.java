@@ -0,0 +1,114 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectLongHashMapUnitTest {
+
+    @Test
+    void get_givenManyEntries_findsEveryEntryAfterResize() {
+        ProjectLongHashMap map = new ProjectLongHashMap();
+        for (long id = -500; id < 500; id++) {
+            map.put(id, new Project(id, "P" + id, LocalDate.now()));
+        }
+
+        assertEquals(1000, map.size());
+        for (long id = -500; id < 500; id++) {
+            assertEquals(id, map.get(id).getId());
+        }
+        assertNull(map.get(500L));
+    }
+
+    @Test
+    void putIfAbsent_givenExistingKey_keepsCurrentValue() {
+        ProjectLongHashMap map = new ProjectLongHashMap();
+        Project first = new Project(0L, "P1", LocalDate.now());
+        map.put(0L, first);
+
+        assertSame(first, map.putIfAbsent(0L, new Project(0L, "P2", LocalDate.now())));
+        assertSame(first, map.get(0L));
+    }
+
+    @Test
+    void stream_givenEntriesAcrossChunks_returnsEveryEntryOnce() {
+        ProjectLongHashMap map = new ProjectLongHashMap();
+        for (long id = 0; id < 5000; id++) {
+            map.put(id, new Project(id, "P" + id, LocalDate.now()));
+        }
+
+        assertEquals(5000, map.stream().map(Project::getId).distinct().count());
+    }
+
+    @Test
+    void values_givenLaterPuts_keepsPreviousVersionUnchanged() {
+        ProjectLongHashMap map = new ProjectLongHashMap();
+        Project first = new Project(0L, "P1", LocalDate.now());
+        map.put(0L, first);
+        Collection<Project> before = map.values();
+
+        map.put(0L, new Project(0L, "P1-renamed", LocalDate.now()));
+        for (long id = 1; id < 100; id++) {
+            map.put(id, new Project(id, "P" + id, LocalDate.now()));
+        }
+
+        assertEquals(List.of(first), new ArrayList<>(before));
+        assertEquals(100, map.values().size());
+    }
+
+    @Test
+    void get_givenConcurrentPutsThatResize_alwaysFindsPublishedEntries() throws Exception {
+        int readers = 3;
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        try {
+            for (int round = 0; round < 20; round++) {
+                ProjectLongHashMap map = new ProjectLongHashMap();
+                AtomicLong written = new AtomicLong();
+                Future<?> writer = executor.submit(() -> {
+                    for (long id = 0; id < 50_000; id++) {
+                        map.put(id, new Project(id, "P" + id, LocalDate.now()));
+                        written.set(id + 1);
+                    }
+                });
+                List<Future<Long>> lookups = new ArrayList<>();
+                for (int i = 0; i < readers; i++) {
+                    lookups.add(executor.submit(() -> {
+                        long count = 0;
+                        while (!writer.isDone()) {
+                            long bound = written.get();
+                            if (bound > 0) {
+                                long id = ThreadLocalRandom.current().nextLong(bound);
+                                assertEquals(id, map.get(id).getId());
+                                assertNull(map.get(-1 - id));
+                                count++;
+                            }
+                        }
+                        return count;
+                    }));
+                }
+                writer.get();
+                for (Future<Long> lookup : lookups) {
+                    assertTrue(lookup.get() >= 0);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -1,13 +1,112 @@
 package com.baeldung.ls.persistence.repository.impl;
 
+import com.baeldung.ls.persistence.model.Project;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class ProjectRepositoryImplUnitTest {
 
     @Test
     void findById_givenDummyId_returnsEmpty() {
-        assertFalse(new ProjectRepositoryImpl().findById(123L).isPresent());
+        assertFalse(new ProjectRepositoryImpl(new HiLoIdGenerator(1024)).findById(123L).isPresent());
+    }
+
+    @Test
+    void save_givenNoId_assignsId() {
+        Project saved = new ProjectRepositoryImpl(new HiLoIdGenerator(1024)).save(new Project("P1", LocalDate.now()));
+        assertNotNull(saved.getId());
+    }
+
+    @Test
+    void save_givenExistingId_replacesProject() {
+        ProjectRepositoryImpl repository = new ProjectRepositoryImpl(new HiLoIdGenerator(1024));
+        repository.save(new Project(1L, "P1", LocalDate.now()));
+        repository.save(new Project(1L, "P1-renamed", LocalDate.now()));
+
+        assertEquals(1, repository.findAll().size());
+        assertEquals("P1-renamed", repository.findById(1L).get().getName());
+    }
+
+    @Test
+    void findAll_givenLaterSave_keepsPreviousSnapshotUnchanged() {
+        ProjectRepositoryImpl repository = new ProjectRepositoryImpl(new HiLoIdGenerator(1024));
+        repository.save(new Project(1L, "P1", LocalDate.now()));
+        Collection<Project> snapshot = repository.findAll();
+
+        assertSame(snapshot, repository.findAll());
+
+        repository.save(new Project(2L, "P2", LocalDate.now()));
+
+        assertEquals(1, snapshot.size());
+        assertEquals(2, repository.findAll().size());
+    }
+
+    @Test
+    void findAll_givenReplacement_keepsPreviousVersionUnchanged() {
+        ProjectRepositoryImpl repository = new ProjectRepositoryImpl(new HiLoIdGenerator(1024));
+        List<Project> batch = new ArrayList<>();
+        for (long id = 0; id < 3000; id++) {
+            batch.add(new Project(id, "P" + id, LocalDate.now()));
+        }
+        repository.saveAll(batch);
+        Collection<Project> before = repository.findAll();
+
+        repository.save(new Project(1500L, "P1500-renamed", LocalDate.now()));
+        Collection<Project> after = repository.findAll();
+
+        assertEquals(batch.size(), before.size());
+        assertEquals(batch.size(), after.size());
+        assertEquals("P1500", nameOf(before, 1500L));
+        assertEquals("P1500-renamed", nameOf(after, 1500L));
+    }
+
+    @Test
+    void save_givenConcurrentWriters_keepsEveryProject() throws Exception {
+        ProjectRepositoryImpl repository = new ProjectRepositoryImpl(new HiLoIdGenerator(16));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        repository.save(new Project("P" + i, LocalDate.now()));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(8000, repository.findAll().size());
+        assertEquals(8000, repository.streamAll().map(Project::getId).distinct().count());
+    }
+
+    @Test
+    void saveAll_givenBatch_savesEveryProject() {
+        ProjectRepositoryImpl repository = new ProjectRepositoryImpl(new HiLoIdGenerator(1024));
+        List<Project> saved = repository.saveAll(List.of(new Project("P1", LocalDate.now()), new Project(7L, "P2", LocalDate.now())));
+
+        assertEquals(2, repository.findAll().size());
+        assertEquals(saved, repository.findAllById(List.of(saved.get(0).getId(), 7L, 123L)));
+    }
+
+    private static String nameOf(Collection<Project> projects, long id) {
+        return projects.stream().filter(p -> p.getId() == id).findFirst().orElseThrow().getName();
     }
-}
\ No newline at end of file
+}
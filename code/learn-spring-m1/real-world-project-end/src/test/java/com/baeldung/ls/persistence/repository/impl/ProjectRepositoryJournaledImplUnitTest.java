@@ -0,0 +1,48 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectRepositoryJournaledImplUnitTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void save_givenSnapshotInterval_writesSnapshotInBackgroundAndRecoversEverySave() throws Exception {
+        ProjectRepositoryJournaledImpl repository = open();
+        for (int i = 0; i < 10; i++) {
+            repository.save(new Project("P" + i, LocalDate.now()));
+        }
+        repository.snapshot().get(10, TimeUnit.SECONDS);
+        for (int i = 10; i < 15; i++) {
+            repository.save(new Project("P" + i, LocalDate.now()));
+        }
+        repository.close();
+
+        assertTrue(Files.exists(directory.resolve(ProjectJournal.SNAPSHOT_FILE)));
+        assertFalse(Files.exists(directory.resolve(ProjectJournal.PREVIOUS_LOG_FILE)));
+
+        ProjectRepositoryJournaledImpl recovered = open();
+        assertEquals(15, recovered.findAll().size());
+        assertEquals(15, recovered.streamAll().map(Project::getId).distinct().count());
+        recovered.close();
+    }
+
+    private ProjectRepositoryJournaledImpl open() throws IOException {
+        ProjectRepositoryJournaledImpl repository = new ProjectRepositoryJournaledImpl(directory, 8, new HiLoIdGenerator(4));
+        repository.recover();
+        return repository;
+    }
+}
@@ -1,8 +1,6 @@
 package com.baeldung.ls.persistence.model;
 
 import java.time.LocalDate;
-import java.util.Objects;
-import java.util.Random;
 
 public class Project {
 
@@ -13,18 +11,13 @@ public class Project {
     private LocalDate dateCreated;
 
     public Project(Long id, String name, LocalDate dateCreated) {
-        if(Objects.isNull(id)) {
-            id = new Random().nextLong();
-        }
         this.id = id;
         this.name = name;
         this.dateCreated = dateCreated;
     }
 
     public Project(String name, LocalDate dateCreated) {
-        this.id = new Random().nextLong();
-        this.name = name;
-        this.dateCreated = dateCreated;
+        this(null, name, dateCreated);
     }
 
     public Project(Project project) {
@@ -3,11 +3,13 @@ package com.baeldung.ls.persistence.repository.impl;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 
 import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 
 import jakarta.annotation.PostConstruct;
@@ -17,6 +19,12 @@ public class ProjectRepositoryImpl implements IProjectRepository {
 
     private List<Project> projects = new ArrayList<>();
 
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryImpl(IIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @PostConstruct
     public void setup() {
         Project project = new Project(1L, "Spring Course", LocalDate.now());
@@ -31,6 +39,12 @@ public class ProjectRepositoryImpl implements IProjectRepository {
 
     @Override
     public Project save(Project project) {
+        if (Objects.isNull(project.getId())) {
+            // an explicitly saved project may already hold the generated id, never overwrite it
+            do {
+                project.setId(idGenerator.nextId());
+            } while (findById(project.getId()).isPresent());
+        }
         Project existingProject = findById(project.getId()).orElse(null);
         if (existingProject == null) {
             projects.add(project);
@@ -1,14 +1,40 @@
 package com.baeldung.ls.config;
 
+import com.baeldung.ls.json.IsoLocalDateModule;
+import com.baeldung.ls.json.JsonCodecs;
+import com.baeldung.ls.json.ProjectJsonHttpMessageConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 @Configuration
-public class AppConfig {
+public class AppConfig implements WebMvcConfigurer {
+
+    private final JsonCodecs jsonCodecs;
+
+    public AppConfig(JsonCodecs jsonCodecs) {
+        this.jsonCodecs = jsonCodecs;
+    }
 
+    // Blackbird replaces reflective getter/setter calls with generated lambdas
     @Bean
-    public ObjectMapper objectMapper() {
-        return new ObjectMapper();
+    public static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .addModule(new IsoLocalDateModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ProjectJsonHttpMessageConverter(jsonCodecs));
     }
-}
\ No newline at end of file
+}
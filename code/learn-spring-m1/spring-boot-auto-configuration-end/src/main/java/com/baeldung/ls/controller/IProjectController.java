@@ -20,4 +20,8 @@ public interface IProjectController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     Project create(@RequestBody Project project);
+
+    @PostMapping(value = "/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    List<Project> createAll(@RequestBody List<Project> projects);
 }
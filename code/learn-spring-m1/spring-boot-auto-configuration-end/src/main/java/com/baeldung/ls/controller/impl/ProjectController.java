@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 public class ProjectController implements IProjectController {
@@ -33,4 +34,9 @@ public class ProjectController implements IProjectController {
     public Project create(Project project) {
         return projectService.save(project);
     }
+
+    @Override
+    public List<Project> createAll(List<Project> projects) {
+        return projectService.saveAll(projects);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.baeldung.ls.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Reads and writes {@link LocalDate} as an ISO {@code yyyy-MM-dd} string, digit by digit, instead of going through
+ * a {@code DateTimeFormatter} like the JSR-310 module does. Dates outside years 0-9999 fall back to
+ * {@link LocalDate#toString()} and {@link LocalDate#parse}.
+ */
+public class IsoLocalDateModule extends SimpleModule {
+
+    public IsoLocalDateModule() {
+        super(IsoLocalDateModule.class.getSimpleName());
+        addSerializer(LocalDate.class, new Serializer());
+        addDeserializer(LocalDate.class, new Deserializer());
+    }
+
+    static class Serializer extends StdScalarSerializer<LocalDate> {
+
+        Serializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate date, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            int year = date.getYear();
+            if (year < 0 || year > 9999) {
+                generator.writeString(date.toString());
+                return;
+            }
+            char[] chars = new char[10];
+            digits(chars, 0, year, 4);
+            chars[4] = '-';
+            digits(chars, 5, date.getMonthValue(), 2);
+            chars[7] = '-';
+            digits(chars, 8, date.getDayOfMonth(), 2);
+            generator.writeString(chars, 0, chars.length);
+        }
+
+        private static void digits(char[] chars, int offset, int value, int width) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                chars[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+
+    static class Deserializer extends StdScalarDeserializer<LocalDate> {
+
+        Deserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                return (LocalDate) context.handleUnexpectedToken(LocalDate.class, parser);
+            }
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            if (length == 10 && chars[offset + 4] == '-' && chars[offset + 7] == '-') {
+                int year = number(chars, offset, 4);
+                int month = number(chars, offset + 5, 2);
+                int day = number(chars, offset + 8, 2);
+                if (year >= 0 && month >= 0 && day >= 0) {
+                    return LocalDate.of(year, month, day);
+                }
+            }
+            return LocalDate.parse(parser.getText());
+        }
+
+        // -1 if not all digits
+        private static int number(char[] chars, int offset, int width) {
+            int value = 0;
+            for (int i = offset; i < offset + width; i++) {
+                int digit = chars[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+    }
+}
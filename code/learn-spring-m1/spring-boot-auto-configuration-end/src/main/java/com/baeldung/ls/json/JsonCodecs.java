@@ -0,0 +1,41 @@
+package com.baeldung.ls.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link ObjectReader} and one {@link ObjectWriter} per type, built once and reused, so that their root
+ * (de)serializer is resolved once instead of on every call.
+ */
+@Component
+public class JsonCodecs {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonCodecs(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public JavaType type(Type type) {
+        return objectMapper.constructType(type);
+    }
+
+    public ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    public ObjectWriter writerFor(JavaType type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+}
@@ -0,0 +1,77 @@
+package com.baeldung.ls.json;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.fasterxml.jackson.databind.JavaType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * JSON converter for {@link Project} and collections of projects that uses the cached readers and writers of
+ * {@link JsonCodecs}; every other type is left to the regular Jackson converter.
+ */
+public class ProjectJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final JsonCodecs codecs;
+
+    public ProjectJsonHttpMessageConverter(JsonCodecs codecs) {
+        super(MediaType.APPLICATION_JSON);
+        this.codecs = codecs;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Project.class == clazz || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isProjectType(codecs.type(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isProjectType(codecs.type(type == null ? clazz : type)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(codecs.type(type), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(codecs.type(clazz), inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        JavaType javaType = codecs.type(type == null ? value.getClass() : type);
+        try {
+            codecs.writerFor(javaType).writeValue(StreamUtils.nonClosing(outputMessage.getBody()), value);
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private Object readInternal(JavaType type, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return codecs.readerFor(type).readValue(StreamUtils.nonClosing(inputMessage.getBody()));
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Could not read JSON: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    private static boolean isProjectType(JavaType type) {
+        return type.getRawClass() == Project.class
+            || type.isCollectionLikeType() && type.getContentType().getRawClass() == Project.class;
+    }
+}
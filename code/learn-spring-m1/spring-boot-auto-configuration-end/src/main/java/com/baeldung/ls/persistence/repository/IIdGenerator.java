@@ -0,0 +1,12 @@
+package com.baeldung.ls.persistence.repository;
+
+public interface IIdGenerator {
+
+    long nextId();
+
+    /**
+     * Makes sure that no id lower than or equal to {@code id} is handed out from now on, used after ids were
+     * restored from outside the generator.
+     */
+    void advancePast(long id);
+}
@@ -1,6 +1,7 @@
 package com.baeldung.ls.persistence.repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.baeldung.ls.persistence.model.Project;
@@ -12,4 +13,11 @@ public interface IProjectRepository {
     Collection<Project> findAll();
 
     Project save(Project project);
+
+    List<Project> saveAll(Collection<Project> projects);
+
+    /**
+     * @return the projects found, in the order of {@code ids}, unknown ids are skipped
+     */
+    List<Project> findAllById(Collection<Long> ids);
 }
@@ -1,37 +1,72 @@
 package com.baeldung.ls.persistence.repository.impl;
 
 import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Repository
 public class ProjectRepositoryImpl implements IProjectRepository {
 
-    private final List<Project> projects = new ArrayList<>();
+    private final Map<Long, Project> projects = new ConcurrentHashMap<>();
+
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryImpl(IIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
 
     @Override
     public Optional<Project> findById(Long id) {
-        return projects.stream().filter(p -> p.getId().equals(id)).findFirst();
+        if (Objects.isNull(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(projects.get(id));
     }
 
     @Override
     public Collection<Project> findAll() {
-        return projects;
+        return projects.values();
     }
 
     @Override
     public Project save(Project project) {
-        Optional<Project> existingProject = findById(project.getId());
-        if (existingProject.isPresent()) {
-            projects.remove(existingProject);
-        }
         Project newProject = new Project(project);
-        projects.add(newProject);
+        if (Objects.isNull(newProject.getId())) {
+            // an explicitly saved project may already hold the generated id, never overwrite it
+            do {
+                newProject.setId(idGenerator.nextId());
+            } while (projects.putIfAbsent(newProject.getId(), newProject) != null);
+        } else {
+            // put() replaces an existing entry with the same id in place
+            projects.put(newProject.getId(), newProject);
+        }
         return newProject;
     }
+
+    @Override
+    public List<Project> saveAll(Collection<Project> projects) {
+        List<Project> newProjects = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            newProjects.add(save(project));
+        }
+        return newProjects;
+    }
+
+    @Override
+    public List<Project> findAllById(Collection<Long> ids) {
+        List<Project> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
 }
@@ -1,6 +1,7 @@
 package com.baeldung.ls.service;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.baeldung.ls.persistence.model.Project;
@@ -11,4 +12,8 @@ public interface IProjectService {
     Collection<Project> findAll();
 
     Project save(Project project);
+
+    List<Project> saveAll(Collection<Project> projects);
+
+    List<Project> findAllById(Collection<Long> ids);
 }
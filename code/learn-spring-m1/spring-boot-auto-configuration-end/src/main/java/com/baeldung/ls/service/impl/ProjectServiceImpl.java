@@ -1,6 +1,7 @@
 package com.baeldung.ls.service.impl;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,4 +36,13 @@ public class ProjectServiceImpl implements IProjectService {
         return projectRepository.save(project);
     }
 
+    @Override
+    public List<Project> saveAll(Collection<Project> projects) {
+        return projectRepository.saveAll(projects);
+    }
+
+    @Override
+    public List<Project> findAllById(Collection<Long> ids) {
+        return projectRepository.findAllById(ids);
+    }
 }
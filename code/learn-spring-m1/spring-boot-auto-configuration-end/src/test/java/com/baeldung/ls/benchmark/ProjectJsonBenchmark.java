@@ -0,0 +1,81 @@
+package com.baeldung.ls.benchmark;
+
+import com.baeldung.ls.config.AppConfig;
+import com.baeldung.ls.json.JsonCodecs;
+import com.baeldung.ls.persistence.model.Project;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing and parsing the {@code /projects} payload, a collection of {@code size} projects:
+ * <ul>
+ *     <li>{@code default}: an {@code ObjectMapper} with the JSR-310 module, as Boot configures it, called directly</li>
+ *     <li>{@code tuned}: the {@link AppConfig#objectMapper()} stack through the cached {@link JsonCodecs} reader and
+ *     writer, as {@code ProjectJsonHttpMessageConverter} uses it</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectJsonBenchmark {
+
+    static final TypeReference<Collection<Project>> PROJECTS = new TypeReference<>() {
+    };
+
+    @Param({ "default", "tuned" })
+    String mapper;
+
+    @Param({ "10", "1000" })
+    int size;
+
+    ObjectMapper objectMapper;
+
+    JsonCodecs codecs;
+
+    JavaType type;
+
+    Collection<Project> projects;
+
+    byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = "tuned".equals(mapper) ? AppConfig.objectMapper()
+            : JsonMapper.builder().addModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        codecs = new JsonCodecs(objectMapper);
+        type = codecs.type(PROJECTS.getType());
+        List<Project> list = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            list.add(new Project(id, "Project-" + id, LocalDate.of(2024, 1, 1).plusDays(id)));
+        }
+        projects = list;
+        json = objectMapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return "tuned".equals(mapper) ? codecs.writerFor(type).writeValueAsBytes(projects)
+            : objectMapper.writerFor(type).writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public Collection<Project> read() throws IOException {
+        return "tuned".equals(mapper) ? codecs.readerFor(type).readValue(json)
+            : objectMapper.readerFor(type).readValue(json);
+    }
+}
@@ -0,0 +1,49 @@
+package com.baeldung.ls.json;
+
+import com.baeldung.ls.config.AppConfig;
+import com.baeldung.ls.persistence.model.Project;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectJsonHttpMessageConverterUnitTest {
+
+    static final Type PROJECTS = new TypeReference<Collection<Project>>() {
+    }.getType();
+
+    ProjectJsonHttpMessageConverter converter = new ProjectJsonHttpMessageConverter(new JsonCodecs(AppConfig.objectMapper()));
+
+    @Test
+    void canWrite_givenProjectTypes_onlyAcceptsProjects() {
+        assertTrue(converter.canWrite(Project.class, Project.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(PROJECTS, Collection.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(Map.class, Map.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(List.class, List.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void writeThenRead_givenProjects_roundTripsIsoDates() throws IOException {
+        List<Project> projects = List.of(new Project(1L, "P1", LocalDate.of(2024, 2, 29)),
+            new Project(2L, "P2", LocalDate.of(-5, 1, 1)), new Project(3L, "P3", null));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(projects, PROJECTS, MediaType.APPLICATION_JSON, output);
+
+        String json = output.getBodyAsString();
+        assertTrue(json.contains("\"dateCreated\":\"2024-02-29\""));
+        assertEquals(projects, converter.read(PROJECTS, null, new MockHttpInputMessage(json.getBytes())));
+    }
+}
@@ -1,13 +1,38 @@
 package com.baeldung.ls.persistence.repository.impl;
 
+import com.baeldung.ls.persistence.model.Project;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class ProjectRepositoryImplUnitTest {
 
     @Test
     void findById_givenDummyId_returnsEmpty() {
-        assertFalse(new ProjectRepositoryImpl().findById(123L).isPresent());
+        assertFalse(new ProjectRepositoryImpl(new HiLoIdGenerator(1024)).findById(123L).isPresent());
+    }
+
+    @Test
+    void save_givenNoId_assignsGeneratedIds() {
+        ProjectRepositoryImpl repository = new ProjectRepositoryImpl(new HiLoIdGenerator(1024));
+        repository.save(new Project(1L, "P1", LocalDate.now()));
+
+        Project saved = repository.save(new Project("P2", LocalDate.now()));
+
+        assertEquals(2L, saved.getId());
+        assertEquals(2, repository.findAll().size());
+    }
+
+    @Test
+    void save_givenExistingId_replacesProject() {
+        ProjectRepositoryImpl repository = new ProjectRepositoryImpl(new HiLoIdGenerator(1024));
+        repository.save(new Project(1L, "P1", LocalDate.now()));
+        repository.save(new Project(1L, "P1-renamed", LocalDate.now()));
+
+        assertEquals(1, repository.findAll().size());
+        assertEquals("P1-renamed", repository.findById(1L).get().getName());
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,14 @@
 package com.baeldung.ls.persistence.repository.impl;
 
 import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +16,12 @@ public class ProjectRepositoryImpl implements IProjectRepository {
 
     private final List<Project> projects = new ArrayList<>();
 
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryImpl(IIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public Optional<Project> findById(Long id) {
         return projects.stream().filter(p -> p.getId().equals(id)).findFirst();
@@ -26,11 +34,17 @@ public class ProjectRepositoryImpl implements IProjectRepository {
 
     @Override
     public Project save(Project project) {
+        Project newProject = new Project(project);
+        if (Objects.isNull(newProject.getId())) {
+            // an explicitly saved project may already hold the generated id, never overwrite it
+            do {
+                newProject.setId(idGenerator.nextId());
+            } while (findById(newProject.getId()).isPresent());
+        }
         Optional<Project> existingProject = findById(project.getId());
         if (existingProject.isPresent()) {
             projects.remove(existingProject);
         }
-        Project newProject = new Project(project);
         projects.add(newProject);
         return newProject;
     }
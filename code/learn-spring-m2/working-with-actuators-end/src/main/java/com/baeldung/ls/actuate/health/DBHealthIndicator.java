@@ -1,25 +1,146 @@
 package com.baeldung.ls.actuate.health;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Probes the database in the background every {@code db.health.interval} and serves the last result, so that
+ * {@code /actuator/health} never touches the database on the caller's thread.
+ * <p>
+ * A probe that does not complete within {@code db.health.timeout} reports the database as down. While it is still
+ * running no new probe is started, so a hanging database never piles up connections. Interrupting the probe does
+ * not necessarily stop a blocked JDBC call, so whether it is still running is tracked by the probe itself rather
+ * than by its cancelled {@link Future}.
+ */
 @Component
 public class DBHealthIndicator implements HealthIndicator {
+    private static final Logger LOG = LoggerFactory.getLogger(DBHealthIndicator.class);
+
+    private final DataSource dataSource;
+
+    private final Duration interval;
+
+    private final Duration timeout;
+
+    private final LatencyWindow latencies;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(daemon("db-health-scheduler"));
+
+    private final ExecutorService prober = Executors.newSingleThreadExecutor(daemon("db-health-probe"));
+
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    private volatile long probeStartedNanos;
+
+    private volatile Health health = Health.unknown().withDetail("reason", "No probe completed yet").build();
+
+    public DBHealthIndicator(DataSource dataSource,
+                             @Value("${db.health.interval:10s}") Duration interval,
+                             @Value("${db.health.timeout:1s}") Duration timeout,
+                             @Value("${db.health.latency-window:128}") int latencyWindow) {
+        this.dataSource = dataSource;
+        this.interval = interval;
+        this.timeout = timeout;
+        this.latencies = new LatencyWindow(latencyWindow);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::probe, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        prober.shutdownNow();
+    }
 
     @Override
     public Health health() {
-        if (isDbUp()) {
-            return Health.up()
-                .build();
-        } else {
-            return Health.down()
-                .withDetail("Error Code", 503)
-                .build();
+        return health;
+    }
+
+    // runs on the scheduler thread only
+    void probe() {
+        if (probing.get()) {
+            long runningMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - probeStartedNanos);
+            health = withLatencies(down("Previous probe still running after " + runningMillis + " ms"));
+            return;
+        }
+        long start = System.nanoTime();
+        Future<Boolean> inFlight = prober.submit(this::runProbe);
+        Health.Builder result;
+        try {
+            result = inFlight.get(timeout.toMillis(), TimeUnit.MILLISECONDS) ? Health.up() : down("Connection is not valid");
+        } catch (TimeoutException e) {
+            inFlight.cancel(true);
+            result = down("Probe timed out after " + timeout.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            result = down(String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        latencies.record(System.nanoTime() - start);
+        health = withLatencies(result);
+        LOG.debug("DB health probe: {}", health.getStatus());
+    }
+
+    private Health withLatencies(Health.Builder builder) {
+        return builder
+            .withDetail("lastProbe", Instant.now().toString())
+            .withDetail("latencyMs", latencies.percentiles())
+            .withDetail("probes", latencies.count())
+            .build();
+    }
+
+    private boolean runProbe() throws Exception {
+        probeStartedNanos = System.nanoTime();
+        probing.set(true);
+        try {
+            return isDbUp();
+        } finally {
+            probing.set(false);
         }
     }
 
-    private boolean isDbUp() {
-        return false;
+    private boolean isDbUp() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid((int) Math.max(1, timeout.toSeconds()));
+        }
+    }
+
+    private static Health.Builder down(String error) {
+        return Health.down()
+            .withDetail("Error Code", 503)
+            .withDetail("error", error);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 }
@@ -0,0 +1,58 @@
+package com.baeldung.ls.actuate.health;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the last {@code capacity} latencies in a ring buffer and summarizes them as percentiles.
+ * Not thread-safe, meant to be written by a single prober thread.
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+
+    private int next;
+
+    private int count;
+
+    LatencyWindow(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.samples = new long[capacity];
+    }
+
+    void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * @return p50, p95, p99 and max in milliseconds, or an empty map before the first sample
+     */
+    Map<String, Double> percentiles() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (count == 0) {
+            return result;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        result.put("p50", millis(sorted, 0.50));
+        result.put("p95", millis(sorted, 0.95));
+        result.put("p99", millis(sorted, 0.99));
+        result.put("max", sorted[count - 1] / 1_000_000.0);
+        return result;
+    }
+
+    int count() {
+        return count;
+    }
+
+    // nearest-rank percentile
+    private static double millis(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
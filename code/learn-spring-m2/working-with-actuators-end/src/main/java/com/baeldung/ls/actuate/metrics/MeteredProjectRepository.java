@@ -0,0 +1,72 @@
+package com.baeldung.ls.actuate.metrics;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every repository call and counts {@code findById} hits and misses. Meters are resolved once at construction
+ * and calls are timed with {@link System#nanoTime()}, so recording allocates nothing.
+ */
+@Primary
+@Component
+public class MeteredProjectRepository implements IProjectRepository {
+
+    private final IProjectRepository delegate;
+
+    private final Timer findById;
+
+    private final Timer findAll;
+
+    private final Timer save;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    public MeteredProjectRepository(@Qualifier("projectRepositoryImpl") IProjectRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.findById = ProjectMetrics.timer(registry, ProjectMetrics.REPOSITORY_CALLS, "findById");
+        this.findAll = ProjectMetrics.timer(registry, ProjectMetrics.REPOSITORY_CALLS, "findAll");
+        this.save = ProjectMetrics.timer(registry, ProjectMetrics.REPOSITORY_CALLS, "save");
+        this.hits = Counter.builder(ProjectMetrics.LOOKUPS).tag("result", "hit").register(registry);
+        this.misses = Counter.builder(ProjectMetrics.LOOKUPS).tag("result", "miss").register(registry);
+        Gauge.builder(ProjectMetrics.STORE_SIZE, delegate, repository -> repository.findAll().size())
+            .register(registry);
+    }
+
+    @Override
+    public Optional<Project> findById(Long id) {
+        long start = System.nanoTime();
+        Optional<Project> project = delegate.findById(id);
+        findById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        (project.isPresent() ? hits : misses).increment();
+        return project;
+    }
+
+    @Override
+    public Collection<Project> findAll() {
+        long start = System.nanoTime();
+        Collection<Project> projects = delegate.findAll();
+        findAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return projects;
+    }
+
+    @Override
+    public Project save(Project project) {
+        long start = System.nanoTime();
+        Project saved = delegate.save(project);
+        save.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return saved;
+    }
+}
@@ -0,0 +1,60 @@
+package com.baeldung.ls.actuate.metrics;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.service.IProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every service call, the same way {@link MeteredProjectRepository} does for the repository.
+ */
+@Primary
+@Component
+public class MeteredProjectService implements IProjectService {
+
+    private final IProjectService delegate;
+
+    private final Timer findById;
+
+    private final Timer findAll;
+
+    private final Timer save;
+
+    public MeteredProjectService(@Qualifier("projectServiceImpl") IProjectService delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.findById = ProjectMetrics.timer(registry, ProjectMetrics.SERVICE_CALLS, "findById");
+        this.findAll = ProjectMetrics.timer(registry, ProjectMetrics.SERVICE_CALLS, "findAll");
+        this.save = ProjectMetrics.timer(registry, ProjectMetrics.SERVICE_CALLS, "save");
+    }
+
+    @Override
+    public Optional<Project> findById(Long id) {
+        long start = System.nanoTime();
+        Optional<Project> project = delegate.findById(id);
+        findById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return project;
+    }
+
+    @Override
+    public Collection<Project> findAll() {
+        long start = System.nanoTime();
+        Collection<Project> projects = delegate.findAll();
+        findAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return projects;
+    }
+
+    @Override
+    public Project save(Project project) {
+        long start = System.nanoTime();
+        Project saved = delegate.save(project);
+        save.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return saved;
+    }
+}
@@ -0,0 +1,30 @@
+package com.baeldung.ls.actuate.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Names of the project meters, shared by the metered decorators and {@link ProjectStatsEndpoint}.
+ */
+final class ProjectMetrics {
+
+    static final String REPOSITORY_CALLS = "project.repository.calls";
+
+    static final String SERVICE_CALLS = "project.service.calls";
+
+    static final String LOOKUPS = "project.repository.lookups";
+
+    static final String STORE_SIZE = "project.repository.size";
+
+    private ProjectMetrics() {
+    }
+
+    // registered once per method, callers keep the reference so recording never looks the meter up
+    static Timer timer(MeterRegistry registry, String name, String method) {
+        return Timer.builder(name)
+            .tag("method", method)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
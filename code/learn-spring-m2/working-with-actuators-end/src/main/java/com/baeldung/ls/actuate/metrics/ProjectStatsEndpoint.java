@@ -0,0 +1,73 @@
+package com.baeldung.ls.actuate.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /actuator/projectstats}: a compact summary of the project meters, one line per repository and service method.
+ */
+@Component
+@Endpoint(id = "projectstats")
+public class ProjectStatsEndpoint {
+
+    private final MeterRegistry registry;
+
+    public ProjectStatsEndpoint(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public ProjectStats stats() {
+        double hits = count("hit");
+        double misses = count("miss");
+        return new ProjectStats(
+            timers(ProjectMetrics.REPOSITORY_CALLS),
+            timers(ProjectMetrics.SERVICE_CALLS),
+            new Lookups((long) hits, (long) misses, hits + misses == 0 ? 0 : hits / (hits + misses)),
+            storeSize());
+    }
+
+    private Map<String, CallStats> timers(String name) {
+        Map<String, CallStats> result = new LinkedHashMap<>();
+        for (Timer timer : registry.find(name).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+            }
+            result.put(timer.getId().getTag("method"), new CallStats(
+                snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS), percentiles));
+        }
+        return result;
+    }
+
+    private long storeSize() {
+        Gauge gauge = registry.find(ProjectMetrics.STORE_SIZE).gauge();
+        return gauge == null ? 0 : (long) gauge.value();
+    }
+
+    private double count(String result) {
+        Counter counter = registry.find(ProjectMetrics.LOOKUPS).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    public record ProjectStats(Map<String, CallStats> repository, Map<String, CallStats> service, Lookups findById, long storeSize) {
+    }
+
+    public record CallStats(long count, double meanMs, double maxMs, Map<String, Double> percentilesMs) {
+    }
+
+    public record Lookups(long hits, long misses, double hitRatio) {
+    }
+}
@@ -2,7 +2,6 @@ package com.baeldung.ls.persistence.model;
 
 import java.time.LocalDate;
 import java.util.Objects;
-import java.util.Random;
 
 public class Project {
 
@@ -16,19 +15,13 @@ public class Project {
     }
 
     public Project(Long id, String name, LocalDate dateCreated) {
-        if(Objects.nonNull(id)) {
-            this.id = id;
-        } else {
-            this.id = new Random().nextLong();
-        }
+        this.id = id;
         this.name = name;
         this.dateCreated = dateCreated;
     }
 
     public Project(String name, LocalDate dateCreated) {
-        this.id = new Random().nextLong();
-        this.name = name;
-        this.dateCreated = dateCreated;
+        this(null, name, dateCreated);
     }
 
     public Project(Project project) {
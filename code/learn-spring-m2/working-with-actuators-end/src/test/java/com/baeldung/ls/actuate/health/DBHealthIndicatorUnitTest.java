@@ -0,0 +1,129 @@
+package com.baeldung.ls.actuate.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DBHealthIndicatorUnitTest {
+
+    DBHealthIndicator indicator;
+
+    @AfterEach
+    void tearDown() {
+        indicator.stop();
+    }
+
+    @Test
+    void health_beforeFirstProbe_isUnknown() {
+        indicator = indicator(mock(DataSource.class), Duration.ofSeconds(1));
+
+        assertEquals(Status.UNKNOWN, indicator.health().getStatus());
+    }
+
+    @Test
+    void probe_givenReachableDatabase_reportsUpWithLatencies() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(EmbeddedDatabaseType.H2).build();
+        try {
+            indicator = indicator(database, Duration.ofSeconds(1));
+            indicator.probe();
+            indicator.probe();
+
+            Health health = indicator.health();
+            assertEquals(Status.UP, health.getStatus());
+            assertEquals(2, health.getDetails().get("probes"));
+            assertTrue(((Map<?, ?>) health.getDetails().get("latencyMs")).containsKey("p99"));
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Test
+    void probe_givenFailingDatabase_reportsDown() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        indicator = indicator(dataSource, Duration.ofSeconds(1));
+
+        indicator.probe();
+
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+    }
+
+    @Test
+    void probe_givenHangingDatabase_reportsDownAfterTimeout() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+        indicator = indicator(dataSource, Duration.ofMillis(50));
+
+        long start = System.nanoTime();
+        indicator.probe();
+
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+        assertTrue(indicator.health().getDetails().get("error").toString().contains("timed out"));
+    }
+
+    @Test
+    void probe_givenProbeBlockedPastTwoTimeouts_reportsStillRunningUntilItReturns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            // like a JDBC call stuck on the network, ignores the interrupt from the timed out probe
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    // keep blocking
+                }
+            }
+            return connection;
+        });
+        indicator = indicator(dataSource, Duration.ofMillis(50));
+
+        indicator.probe();
+        assertTrue(error().contains("timed out"));
+        Thread.sleep(60);
+        indicator.probe();
+        assertTrue(error().contains("Previous probe still running"));
+        Thread.sleep(60);
+        indicator.probe();
+        assertTrue(error().contains("Previous probe still running"));
+
+        release.countDown();
+        for (int attempt = 0; attempt < 100 && indicator.health().getStatus() != Status.UP; attempt++) {
+            Thread.sleep(10);
+            indicator.probe();
+        }
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    private String error() {
+        return indicator.health().getDetails().get("error").toString();
+    }
+
+    // not started, probes are triggered by the tests
+    private static DBHealthIndicator indicator(DataSource dataSource, Duration timeout) {
+        return new DBHealthIndicator(dataSource, Duration.ofMinutes(1), timeout, 16);
+    }
+}
@@ -0,0 +1,31 @@
+package com.baeldung.ls.actuate.health;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyWindowUnitTest {
+
+    @Test
+    void percentiles_givenNoSamples_isEmpty() {
+        assertTrue(new LatencyWindow(4).percentiles().isEmpty());
+    }
+
+    @Test
+    void percentiles_givenMoreSamplesThanCapacity_keepsLatestOnly() {
+        LatencyWindow window = new LatencyWindow(100);
+        for (int i = 1; i <= 200; i++) {
+            window.record(i * 1_000_000L);
+        }
+
+        Map<String, Double> percentiles = window.percentiles();
+        assertEquals(100, window.count());
+        assertEquals(150.0, percentiles.get("p50"));
+        assertEquals(195.0, percentiles.get("p95"));
+        assertEquals(199.0, percentiles.get("p99"));
+        assertEquals(200.0, percentiles.get("max"));
+    }
+}
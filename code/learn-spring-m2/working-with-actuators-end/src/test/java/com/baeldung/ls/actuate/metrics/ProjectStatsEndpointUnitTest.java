@@ -0,0 +1,41 @@
+package com.baeldung.ls.actuate.metrics;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.impl.HiLoIdGenerator;
+import com.baeldung.ls.persistence.repository.impl.ProjectRepositoryImpl;
+import com.baeldung.ls.service.impl.ProjectServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectStatsEndpointUnitTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    MeteredProjectRepository repository = new MeteredProjectRepository(new ProjectRepositoryImpl(new HiLoIdGenerator(1024)), registry);
+
+    MeteredProjectService service = new MeteredProjectService(new ProjectServiceImpl(repository), registry);
+
+    ProjectStatsEndpoint endpoint = new ProjectStatsEndpoint(registry);
+
+    @Test
+    void stats_afterServiceCalls_summarizesRepositoryAndService() {
+        service.save(new Project(1L, "P1", LocalDate.now()));
+        service.findById(1L);
+        service.findById(1L);
+        service.findById(2L);
+
+        ProjectStatsEndpoint.ProjectStats stats = endpoint.stats();
+
+        assertEquals(3, stats.repository().get("findById").count());
+        assertEquals(1, stats.service().get("save").count());
+        assertTrue(stats.service().get("findById").percentilesMs().containsKey("p99"));
+        assertEquals(2, stats.findById().hits());
+        assertEquals(1, stats.findById().misses());
+        assertEquals(1, stats.storeSize());
+    }
+}
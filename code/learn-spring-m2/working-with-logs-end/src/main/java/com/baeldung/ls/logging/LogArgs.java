@@ -0,0 +1,40 @@
+package com.baeldung.ls.logging;
+
+import com.baeldung.ls.persistence.model.Project;
+
+import java.util.function.Supplier;
+
+/**
+ * Log arguments that cost nothing until the message is actually formatted, and a bounded amount when it is.
+ * <p>
+ * The returned objects only compute their text in {@code toString()}, which the logger calls once the level check
+ * and the {@link RateLimitingTurboFilter} have let the line through. The text is truncated to {@value #MAX_LENGTH}
+ * characters.
+ */
+public final class LogArgs {
+
+    static final int MAX_LENGTH = 120;
+
+    private LogArgs() {
+    }
+
+    public static Object lazy(Supplier<?> supplier) {
+        return new Lazy(supplier);
+    }
+
+    public static Object summary(Project project) {
+        return lazy(() -> project == null ? "null" : "Project [id=" + project.getId() + ", name=" + project.getName() + "]");
+    }
+
+    static String truncate(String text) {
+        return text.length() <= MAX_LENGTH ? text : text.substring(0, MAX_LENGTH) + "...";
+    }
+
+    private record Lazy(Supplier<?> supplier) {
+
+        @Override
+        public String toString() {
+            return truncate(String.valueOf(supplier.get()));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.baeldung.ls.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through at most {@code eventsPerSecond} INFO (and lower) events per second for every logger whose name starts
+ * with {@code loggerPrefix}, and drops the rest before a logging event is even created. WARN and ERROR always pass.
+ * <p>
+ * Each logger gets its own one-second window; the limit is approximate when the window rolls over under contention.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private String loggerPrefix = "";
+
+    private int eventsPerSecond = 1000;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.get(logger.getName());
+        if (window == null) {
+            window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        }
+        if (window.tryAcquire(System.nanoTime() / 1_000_000_000L, eventsPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setEventsPerSecond(int eventsPerSecond) {
+        this.eventsPerSecond = eventsPerSecond;
+    }
+
+    private static final class Window {
+
+        private final AtomicLong second = new AtomicLong(Long.MIN_VALUE);
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
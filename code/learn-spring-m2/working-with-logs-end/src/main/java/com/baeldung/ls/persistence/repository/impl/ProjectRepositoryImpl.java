@@ -1,6 +1,7 @@
 package com.baeldung.ls.persistence.repository.impl;
 
 import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +11,12 @@ import java.util.*;
 public class ProjectRepositoryImpl implements IProjectRepository {
     private final List<Project> projects = new ArrayList<>();
 
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryImpl(IIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public Optional<Project> findById(Long id) {
         return projects.stream().filter(p -> p.getId().equals(id)).findFirst();
@@ -24,7 +31,10 @@ public class ProjectRepositoryImpl implements IProjectRepository {
     public Project save(Project project) {
         Project toSave = new Project(project);
         if (Objects.isNull(toSave.getId())) {
-            toSave.setId(new Random().nextLong(1_000_000L));
+            // an explicitly saved project may already hold the generated id, never overwrite it
+            do {
+                toSave.setId(idGenerator.nextId());
+            } while (findById(toSave.getId()).isPresent());
         }
         Optional<Project> existingProject = findById(project.getId());
         if (existingProject.isPresent()) {
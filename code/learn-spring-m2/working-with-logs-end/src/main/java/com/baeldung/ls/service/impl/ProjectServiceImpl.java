@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.baeldung.ls.logging.LogArgs;
 import com.baeldung.ls.persistence.model.Project;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 import com.baeldung.ls.service.IProjectService;
@@ -36,7 +37,7 @@ public class ProjectServiceImpl implements IProjectService {
 
     @Override
     public Project save(Project project) {
-        LOG.info("Project Service >> Saving Project", project);
+        LOG.info("Project Service >> Saving Project {}", LogArgs.summary(project));
         return projectRepository.save(project);
     }
 
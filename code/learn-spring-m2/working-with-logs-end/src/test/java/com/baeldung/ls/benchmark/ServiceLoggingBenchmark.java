@@ -0,0 +1,106 @@
+package com.baeldung.ls.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.baeldung.ls.logging.RateLimitingTurboFilter;
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.impl.HiLoIdGenerator;
+import com.baeldung.ls.persistence.repository.impl.ProjectRepositoryImpl;
+import com.baeldung.ls.service.IProjectService;
+import com.baeldung.ls.service.impl.ProjectServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link ProjectServiceImpl#findById}, which logs at INFO on every call, with {@code com.baeldung.ls}
+ * at INFO and the log written to {@code target/benchmark.log}:
+ * <ul>
+ *     <li>{@code sync}: the file appender is called on the request thread</li>
+ *     <li>{@code async}: the appender setup of {@code logback-spring.xml}, a bounded non-blocking queue in front of it</li>
+ *     <li>{@code async-limited}: as {@code async}, plus the {@link RateLimitingTurboFilter} at its default limit</li>
+ * </ul>
+ * The async queue drops events once full, so its numbers include the events that were not written.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceLoggingBenchmark {
+
+    static final int PROJECTS = 100;
+
+    @Param({ "sync", "async", "async-limited" })
+    String mode;
+
+    LoggerContext context;
+
+    IProjectService service;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+        context.getLogger("com.baeldung.ls").setLevel(Level.INFO);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile("target/benchmark.log");
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!"sync".equals(mode)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        if ("async-limited".equals(mode)) {
+            RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+            filter.setLoggerPrefix("com.baeldung.ls");
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+
+        ProjectRepositoryImpl repository = new ProjectRepositoryImpl(new HiLoIdGenerator(1024));
+        for (long id = 1; id <= PROJECTS; id++) {
+            repository.save(new Project(id, "Project-" + id, LocalDate.now()));
+        }
+        service = new ProjectServiceImpl(repository);
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object findById() {
+        return service.findById(ThreadLocalRandom.current().nextLong(1, PROJECTS + 1));
+    }
+}
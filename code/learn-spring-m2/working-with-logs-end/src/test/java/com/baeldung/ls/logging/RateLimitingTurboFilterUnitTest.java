@@ -0,0 +1,52 @@
+package com.baeldung.ls.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimitingTurboFilterUnitTest {
+
+    LoggerContext context = new LoggerContext();
+
+    RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger("com.baeldung.ls").setLevel(Level.INFO);
+        filter.setLoggerPrefix("com.baeldung.ls");
+        filter.setEventsPerSecond(2);
+        filter.start();
+    }
+
+    @Test
+    void decide_givenMoreInfoEventsThanLimit_deniesTheRest() {
+        Logger logger = context.getLogger("com.baeldung.ls.service.impl.ProjectServiceImpl");
+
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.WARN));
+        assertEquals(1, filter.getDropped());
+    }
+
+    @Test
+    void decide_givenOtherLoggerOrDisabledLevel_isNeutral() {
+        Logger other = context.getLogger("org.example.Other");
+        Logger service = context.getLogger("com.baeldung.ls.service.impl.ProjectServiceImpl");
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO));
+            assertEquals(FilterReply.NEUTRAL, decide(service, Level.DEBUG));
+        }
+        assertEquals(0, filter.getDropped());
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[] { 1 }, null);
+    }
+}
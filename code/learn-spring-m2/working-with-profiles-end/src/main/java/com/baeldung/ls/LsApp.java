@@ -8,6 +8,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.random.RandomGenerator;
 
 @SpringBootApplication
@@ -24,8 +25,9 @@ public class LsApp implements ApplicationRunner {
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
-        projectRepository.save(new Project("P1", LocalDate.now()));
-        projectRepository.save(new Project("P2", LocalDate.now()));
-        projectRepository.save(new Project("P3", LocalDate.now()));
+        projectRepository.saveAll(List.of(
+                new Project("P1", LocalDate.now()),
+                new Project("P2", LocalDate.now()),
+                new Project("P3", LocalDate.now())));
     }
 }
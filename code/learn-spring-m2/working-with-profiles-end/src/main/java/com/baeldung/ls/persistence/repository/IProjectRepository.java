@@ -3,6 +3,7 @@ package com.baeldung.ls.persistence.repository;
 import com.baeldung.ls.persistence.model.Project;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IProjectRepository {
@@ -12,4 +13,6 @@ public interface IProjectRepository {
     Collection<Project> findAll();
 
     Project save(Project project);
+
+    List<Project> saveAll(Collection<Project> projects);
 }
@@ -4,41 +4,164 @@ import com.baeldung.ls.persistence.model.Project;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.*;
 
+/**
+ * JDBC-backed store for the {@code project} table created by {@code schema.sql}.
+ * <p>
+ * Bulk saves go through prepared-statement batches of {@code project.repository.batch-size} rows: projects with an
+ * id are written with the database's upsert statement, so concurrent saves of the same new id cannot both insert,
+ * and projects without an id are inserted in a batch that reads the generated keys back. A save runs in a single
+ * transaction, either every project is written or none. Reads set {@code project.repository.fetch-size} so that the
+ * driver fetches large result sets that many rows per round trip; {@link #findAll()} still collects every row into
+ * a list.
+ */
 @Profile("prod")
 @Repository
 public class ProjectRepositoryDBBasedImpl implements IProjectRepository {
-    private static final Logger LOG = LoggerFactory.getLogger(ProjectRepositoryImpl.class);
+    private static final Logger LOG = LoggerFactory.getLogger(ProjectRepositoryDBBasedImpl.class);
 
+    private static final String SELECT = "SELECT id, name, date_created FROM project";
 
-    private final List<Project> projects = new ArrayList<>();
+    private static final String H2_UPSERT = "MERGE INTO project (name, date_created, id) KEY (id) VALUES (?, ?, ?)";
+
+    private static final String MYSQL_UPSERT = "INSERT INTO project (name, date_created, id) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE name = VALUES(name), date_created = VALUES(date_created)";
+
+    private static final String INSERT = "INSERT INTO project (name, date_created) VALUES (?, ?)";
+
+    private static final RowMapper<Project> PROJECT_MAPPER = (rs, rowNum) -> {
+        Date dateCreated = rs.getDate("date_created");
+        return new Project(rs.getLong("id"), rs.getString("name"), dateCreated == null ? null : dateCreated.toLocalDate());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final String upsert;
+
+    private final int batchSize;
+
+    public ProjectRepositoryDBBasedImpl(DataSource dataSource,
+                                        @Value("${project.repository.batch-size:500}") int batchSize,
+                                        @Value("${project.repository.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.upsert = upsertFor(dataSource);
+        this.batchSize = batchSize;
+    }
 
     @Override
     public Optional<Project> findById(Long id) {
         LOG.info("Retrieving Project using ProjectDBBasedRepositoryImpl");
-        return projects.stream().filter(p -> p.getId().equals(id)).findFirst();
+        if (Objects.isNull(id)) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query(SELECT + " WHERE id = ?", PROJECT_MAPPER, id).stream().findFirst();
     }
 
     @Override
     public Collection<Project> findAll() {
-        return projects;
+        return jdbcTemplate.query(SELECT, PROJECT_MAPPER);
     }
 
     @Override
     public Project save(Project project) {
-        Project toSave = new Project(project);
-        if (Objects.isNull(toSave.getId())) {
-            toSave.setId(new Random().nextLong(1_000_000L));
+        return saveAll(List.of(project)).get(0);
+    }
+
+    @Override
+    public List<Project> saveAll(Collection<Project> projects) {
+        return transactionTemplate.execute(status -> saveInTransaction(projects));
+    }
+
+    private List<Project> saveInTransaction(Collection<Project> projects) {
+        List<Project> saved = new ArrayList<>(projects.size());
+        List<Project> withId = new ArrayList<>();
+        List<Project> withoutId = new ArrayList<>();
+        for (Project project : projects) {
+            Project toSave = new Project(project);
+            saved.add(toSave);
+            (Objects.isNull(toSave.getId()) ? withoutId : withId).add(toSave);
+        }
+        for (int from = 0; from < withId.size(); from += batchSize) {
+            upsert(withId.subList(from, Math.min(from + batchSize, withId.size())));
+        }
+        for (int from = 0; from < withoutId.size(); from += batchSize) {
+            insert(withoutId.subList(from, Math.min(from + batchSize, withoutId.size())));
+        }
+        return saved;
+    }
+
+    private void upsert(List<Project> chunk) {
+        jdbcTemplate.batchUpdate(upsert, chunk, chunk.size(), (ps, project) -> {
+            bind(ps, project);
+            ps.setLong(3, project.getId());
+        });
+    }
+
+    private void insert(List<Project> chunk) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, chunk.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
         }
-        Optional<Project> existingProject = findById(project.getId());
-        if (existingProject.isPresent()) {
-            projects.remove(existingProject);
+    }
+
+    private static String upsertFor(DataSource dataSource) {
+        String database;
+        try {
+            database = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine the database behind the project repository", e);
+        }
+        return switch (database) {
+            case "H2" -> H2_UPSERT;
+            case "MySQL" -> MYSQL_UPSERT;
+            default -> throw new IllegalStateException("No upsert statement for " + database);
+        };
+    }
+
+    private static void bind(PreparedStatement ps, Project project) throws SQLException {
+        ps.setString(1, project.getName());
+        if (project.getDateCreated() == null) {
+            ps.setNull(2, Types.DATE);
+        } else {
+            ps.setDate(2, Date.valueOf(project.getDateCreated()));
         }
-        projects.add(toSave);
-        return toSave;
     }
 }
@@ -1,6 +1,7 @@
 package com.baeldung.ls.persistence.repository.impl;
 
 import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +17,12 @@ public class ProjectRepositoryImpl implements IProjectRepository {
 
     private final List<Project> projects = new ArrayList<>();
 
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryImpl(IIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public Optional<Project> findById(Long id) {
         LOG.info("Retrieving Project using ProjectRepositoryImpl");
@@ -31,13 +38,25 @@ public class ProjectRepositoryImpl implements IProjectRepository {
     public Project save(Project project) {
         Project toSave = new Project(project);
         if (Objects.isNull(toSave.getId())) {
-            toSave.setId(new Random().nextLong(1_000_000L));
+            // an explicitly saved project may already hold the generated id, never overwrite it
+            do {
+                toSave.setId(idGenerator.nextId());
+            } while (findById(toSave.getId()).isPresent());
         }
         Optional<Project> existingProject = findById(project.getId());
         if (existingProject.isPresent()) {
-            projects.remove(existingProject);
+            projects.remove(existingProject.get());
         }
         projects.add(toSave);
         return toSave;
     }
+
+    @Override
+    public List<Project> saveAll(Collection<Project> projects) {
+        List<Project> saved = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            saved.add(save(project));
+        }
+        return saved;
+    }
 }
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS project (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name         VARCHAR(255),
+    date_created DATE
+);
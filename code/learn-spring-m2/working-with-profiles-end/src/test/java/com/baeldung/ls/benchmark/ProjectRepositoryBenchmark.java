@@ -0,0 +1,125 @@
+package com.baeldung.ls.benchmark;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IProjectRepository;
+import com.baeldung.ls.persistence.repository.impl.HiLoIdGenerator;
+import com.baeldung.ls.persistence.repository.impl.ProjectRepositoryDBBasedImpl;
+import com.baeldung.ls.persistence.repository.impl.ProjectRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findById, save, findAll and a mixed read/write workload for the "dev" and "prod" {@link IProjectRepository}
+ * implementations, the latter against an embedded H2 database. Saves overwrite existing ids so that the store keeps
+ * its size during a run.
+ * <p>
+ * The "dev" implementation is backed by a plain {@code ArrayList}, so only the read-only benchmarks may run on several
+ * threads; {@link #main} runs those at several thread counts and the rest single-threaded, results go to
+ * {@code target/jmh-repository-*.json}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectRepositoryBenchmark {
+
+    @Param({ "dev", "prod" })
+    String profile;
+
+    @Param({ "1000", "10000", "100000" })
+    int size;
+
+    IProjectRepository repository;
+
+    EmbeddedDatabase database;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        // both implementations log on every findById
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        if ("dev".equals(profile)) {
+            repository = new ProjectRepositoryImpl(new HiLoIdGenerator(1024));
+        } else {
+            database = new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(EmbeddedDatabaseType.H2).addScript("schema.sql").build();
+            repository = new ProjectRepositoryDBBasedImpl(database, 500, 500);
+        }
+        List<Project> projects = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            projects.add(new Project(id, "Project-" + id, LocalDate.now()));
+        }
+        repository.saveAll(projects);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        if (database != null) {
+            database.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Object findById() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public Project save() {
+        return repository.save(new Project(randomId(), "Project", LocalDate.now()));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int findAll() {
+        int count = 0;
+        for (Project project : repository.findAll()) {
+            count += project.getName().length();
+        }
+        return count;
+    }
+
+    /**
+     * Three reads for every write.
+     */
+    @Benchmark
+    public Object mixed() {
+        if (ThreadLocalRandom.current().nextInt(4) == 0) {
+            return repository.save(new Project(randomId(), "Project", LocalDate.now()));
+        }
+        return repository.findById(randomId());
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, size + 1L);
+    }
+
+    public static void main(String... args) throws Exception {
+        for (int threads : new int[] { 1, 4, 16 }) {
+            new Runner(new OptionsBuilder()
+                    .include(ProjectRepositoryBenchmark.class.getSimpleName() + "\\.(findById|findAll)$")
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("target/jmh-repository-" + threads + "t.json")
+                    .build()).run();
+        }
+        new Runner(new OptionsBuilder()
+                .include(ProjectRepositoryBenchmark.class.getSimpleName() + "\\.(save|mixed)$")
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-repository-writes.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.model.Project;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// runs against a fresh embedded H2 database per test, created from the application's schema.sql
+class ProjectRepositoryDBBasedImplIntegrationTest {
+
+    EmbeddedDatabase database;
+
+    ProjectRepositoryDBBasedImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+        repository = new ProjectRepositoryDBBasedImpl(database, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void findById_givenDummyId_returnsEmpty() {
+        assertFalse(repository.findById(123L).isPresent());
+    }
+
+    @Test
+    void saveAll_givenProjectsWithAndWithoutId_savesAllInBatches() {
+        List<Project> saved = repository.saveAll(List.of(
+                new Project("P1", LocalDate.now()),
+                new Project("P2", null),
+                new Project("P3", LocalDate.now()),
+                new Project(1_000L, "P4", LocalDate.now())));
+
+        assertEquals(4, repository.findAll().size());
+        for (Project project : saved) {
+            assertNotNull(project.getId());
+            assertEquals(project, repository.findById(project.getId()).get());
+        }
+    }
+
+    @Test
+    void save_givenExistingId_updatesRow() {
+        repository.save(new Project(1_000L, "P1", LocalDate.now()));
+        repository.save(new Project(1_000L, "P1-renamed", LocalDate.now()));
+
+        assertEquals(1, repository.findAll().size());
+        assertEquals("P1-renamed", repository.findById(1_000L).get().getName());
+    }
+
+    @Test
+    void saveAll_givenFailingProject_writesNothing() {
+        List<Project> projects = List.of(
+                new Project(1_000L, "P1", LocalDate.now()),
+                new Project(1_001L, "P2", LocalDate.now()),
+                new Project("P".repeat(300), LocalDate.now()));
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository.saveAll(projects));
+
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    void save_givenConcurrentSavesOfSameNewId_keepsOneRow() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (long id = 1_000; id < 1_100; id++) {
+                long projectId = id;
+                Callable<Project> save = () -> repository.save(new Project(projectId, "P" + projectId, LocalDate.now()));
+                Future<Project> first = executor.submit(save);
+                Future<Project> second = executor.submit(save);
+                first.get();
+                second.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(100, repository.findAll().size());
+    }
+}
@@ -0,0 +1,10 @@
+package com.baeldung.ls.persistence.repository;
+
+public interface IProjectCodeGenerator {
+
+    /**
+     * @return a code that was never handed out before, also across restarts, and that sorts after every code
+     * handed out before it
+     */
+    String nextCode();
+}
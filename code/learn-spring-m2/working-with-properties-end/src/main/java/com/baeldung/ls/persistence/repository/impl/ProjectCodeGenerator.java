@@ -0,0 +1,125 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import com.baeldung.ls.persistence.repository.IProjectCodeGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out {@code <prefix>-<seq>-<suffix>} codes, with the sequence zero-padded to {@value #DIGITS} digits so that
+ * codes sort in the order they were generated.
+ * <p>
+ * The sequence is a single {@link AtomicLong}; a code costs one atomic increment and one {@code String}. Sequence
+ * numbers are reserved in blocks of {@code blockSize}: the end of the current block is written to
+ * {@code stateFile} before any number from it is handed out, and a restart continues after that high-water mark. The
+ * unused rest of a block is skipped on restart, so codes are unique and increasing but not gap-free.
+ */
+@Component
+public class ProjectCodeGenerator implements IProjectCodeGenerator {
+    private static final Logger LOG = LoggerFactory.getLogger(ProjectCodeGenerator.class);
+
+    static final int DIGITS = 12;
+
+    private static final long MAX_SEQUENCE = 999_999_999_999L;
+
+    private final byte[] prefix;
+
+    private final byte[] suffix;
+
+    private final int blockSize;
+
+    private final Path stateFile;
+
+    private final AtomicLong sequence;
+
+    // highest sequence number that is covered by the persisted high-water mark
+    private volatile long reserved;
+
+    public ProjectCodeGenerator(@Value("${project.prefix}") String prefix,
+                                @Value("${project.suffix}") String suffix,
+                                @Value("${project.code.block-size:100000}") int blockSize,
+                                @Value("${project.code.state-file:data/project-code.hwm}") Path stateFile) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Code block size must be positive: " + blockSize);
+        }
+        this.prefix = (prefix + "-").getBytes(StandardCharsets.ISO_8859_1);
+        this.suffix = ("-" + suffix).getBytes(StandardCharsets.ISO_8859_1);
+        this.blockSize = blockSize;
+        this.stateFile = stateFile;
+        this.reserved = load();
+        this.sequence = new AtomicLong(reserved);
+        LOG.info("Project codes continue after sequence {}", reserved);
+    }
+
+    @Override
+    public String nextCode() {
+        long seq = sequence.incrementAndGet();
+        if (seq > reserved) {
+            reserve(seq);
+        }
+        return format(seq);
+    }
+
+    private synchronized void reserve(long seq) {
+        long mark = reserved;
+        while (seq > mark) {
+            mark += blockSize;
+        }
+        if (mark != reserved) {
+            if (mark > MAX_SEQUENCE) {
+                throw new IllegalStateException("Project code sequence exhausted at " + seq);
+            }
+            store(mark);
+            reserved = mark;
+        }
+    }
+
+    private String format(long seq) {
+        byte[] code = new byte[prefix.length + DIGITS + suffix.length];
+        System.arraycopy(prefix, 0, code, 0, prefix.length);
+        for (int i = prefix.length + DIGITS - 1; i >= prefix.length; i--) {
+            code[i] = (byte) ('0' + seq % 10);
+            seq /= 10;
+        }
+        System.arraycopy(suffix, 0, code, prefix.length + DIGITS, suffix.length);
+        return new String(code, StandardCharsets.ISO_8859_1);
+    }
+
+    private long load() {
+        try {
+            return Files.exists(stateFile) ? Long.parseLong(Files.readString(stateFile).trim()) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read project code high-water mark from " + stateFile, e);
+        }
+    }
+
+    // written to a temporary file, forced to disk and moved over the previous mark, so a crash leaves either one
+    private void store(long mark) {
+        Path tmp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+        try {
+            if (stateFile.getParent() != null) {
+                Files.createDirectories(stateFile.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(Long.toString(mark).getBytes(StandardCharsets.US_ASCII)));
+                channel.force(true);
+            }
+            Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot persist project code high-water mark to " + stateFile, e);
+        }
+    }
+}
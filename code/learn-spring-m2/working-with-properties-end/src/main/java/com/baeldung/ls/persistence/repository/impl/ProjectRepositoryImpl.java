@@ -1,9 +1,12 @@
 package com.baeldung.ls.persistence.repository.impl;
 
 import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.repository.IIdGenerator;
+import com.baeldung.ls.persistence.repository.IProjectCodeGenerator;
 import com.baeldung.ls.persistence.repository.IProjectRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
@@ -22,8 +25,17 @@ public class ProjectRepositoryImpl implements IProjectRepository {
     @Value("${additional.info}")
     private String additional;
 
+    @Autowired
+    private IProjectCodeGenerator codeGenerator;
+
     private final List<Project> projects = new ArrayList<>();
 
+    private final IIdGenerator idGenerator;
+
+    public ProjectRepositoryImpl(IIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public Optional<Project> findById(Long id) {
         return projects.stream().filter(p -> p.getId().equals(id)).findFirst();
@@ -38,13 +50,18 @@ public class ProjectRepositoryImpl implements IProjectRepository {
     public Project save(Project project) {
         Project toSave = new Project(project);
         if (Objects.isNull(toSave.getId())) {
-            toSave.setId(new Random().nextLong(1_000_000L));
+            // an explicitly saved project may already hold the generated id, never overwrite it
+            do {
+                toSave.setId(idGenerator.nextId());
+            } while (findById(toSave.getId()).isPresent());
         }
         Optional<Project> existingProject = findById(project.getId());
         if (existingProject.isPresent()) {
-            projects.remove(existingProject);
+            projects.remove(existingProject.get());
+            toSave.setInternalID(existingProject.get().getInternalID());
+        } else {
+            updateInternalId(toSave);
         }
-        updateInternalId(toSave);
         projects.add(toSave);
         return toSave;
     }
@@ -54,7 +71,7 @@ public class ProjectRepositoryImpl implements IProjectRepository {
         LOG.info("Prepending Prefix " + prefix);
         LOG.info("Appending Suffix " + suffix);
 
-        project.setInternalID(prefix + "-" + project.getId() + "-" + suffix);
+        project.setInternalID(codeGenerator.nextCode());
 
         LOG.info("Generated internal id " + project.getInternalID());
     }
@@ -0,0 +1,61 @@
+package com.baeldung.ls.persistence.repository.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectCodeGeneratorUnitTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void nextCode_givenSequence_returnsSortableCodes() {
+        ProjectCodeGenerator generator = generator(4);
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            codes.add(generator.nextCode());
+        }
+
+        assertEquals("PRO-000000000001-123", codes.get(0));
+        assertEquals("PRO-000000000012-123", codes.get(11));
+        assertEquals(codes.stream().sorted().toList(), codes);
+    }
+
+    @Test
+    void nextCode_givenManyThreads_returnsUniqueCodes() {
+        ProjectCodeGenerator generator = generator(1000);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> codes.add(generator.nextCode()));
+
+        assertEquals(100_000, codes.size());
+    }
+
+    @Test
+    void nextCode_afterRestart_continuesAfterHighWaterMark() {
+        ProjectCodeGenerator generator = generator(10);
+        String last = null;
+        for (int i = 0; i < 15; i++) {
+            last = generator.nextCode();
+        }
+
+        String first = generator(10).nextCode();
+
+        assertEquals("PRO-000000000021-123", first);
+        assertTrue(first.compareTo(last) > 0);
+    }
+
+    private ProjectCodeGenerator generator(int blockSize) {
+        return new ProjectCodeGenerator("PRO", "123", blockSize, dir.resolve("project-code.hwm"));
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -58,5 +60,8 @@ public class DerivedQueryMethodsApp implements ApplicationRunner {
 
         Iterable<Project> distinctProjects = projectRepository.findDistinctByTasksNameContaining("Task");
         LOG.info("Distinct projects with Task name containing \"Task\"\n{}", distinctProjects);
+
+        Page<Task> searchedTasks = taskRepository.search("task 2", PageRequest.of(0, 5));
+        LOG.info("Full-text search for \"task 2\", {} of {} matches\n{}", searchedTasks.getNumberOfElements(), searchedTasks.getTotalElements(), searchedTasks.getContent());
     }
 }
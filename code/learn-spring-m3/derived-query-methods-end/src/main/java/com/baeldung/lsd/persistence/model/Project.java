@@ -7,17 +7,41 @@ import java.util.Set;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 
+import com.baeldung.lsd.persistence.search.SearchIndexListener;
+
+/**
+ * Tasks are loaded lazily, repository methods pick a fetch plan with {@code @EntityGraph}: {@link #SUMMARY_GRAPH}
+ * for lists, {@link #DETAIL_GRAPH} to read a project together with its tasks and their assignees in one query.
+ */
 @Entity
+@EntityListeners(SearchIndexListener.class)
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = Project.SUMMARY_GRAPH),
+    @NamedEntityGraph(name = Project.DETAIL_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "tasks", subgraph = "tasks"),
+        subgraphs = @NamedSubgraph(name = "tasks", attributeNodes = @NamedAttributeNode("assignee")))
+})
 public class Project {
 
+    public static final String SUMMARY_GRAPH = "Project.summary";
+
+    public static final String DETAIL_GRAPH = "Project.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, updatable = false)
@@ -27,7 +51,7 @@ public class Project {
 
     private String description;
 
-    @OneToMany(mappedBy = "project", orphanRemoval = true, fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "project", orphanRemoval = true, fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private Set<Task> tasks = new HashSet<>();
 
     public Project(String code, String name, String description) {
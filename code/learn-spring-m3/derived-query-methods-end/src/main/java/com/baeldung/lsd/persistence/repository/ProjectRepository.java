@@ -1,15 +1,29 @@
 package com.baeldung.lsd.persistence.repository;
 
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.CrudRepository;
 
 import com.baeldung.lsd.persistence.model.Project;
 
-public interface ProjectRepository extends CrudRepository<Project, Long> {
+public interface ProjectRepository extends CrudRepository<Project, Long>, ProjectSearchRepository {
+    @Override
+    @EntityGraph(Project.SUMMARY_GRAPH)
+    Iterable<Project> findAll();
+
+    @Override
+    @EntityGraph(Project.DETAIL_GRAPH)
+    Optional<Project> findById(Long id);
+
     Iterable<Project> findByName(String name);
     Iterable<Project> findByNameIsNot(String name);
     Iterable<Project> findByNameStartingWith(String name);
     Iterable<Project> findByNameEndingWith(String name);
+
+    @EntityGraph(Project.SUMMARY_GRAPH)
     Iterable<Project> findByNameContaining(String name);
+
     Iterable<Project> findByNameLike(String likePattern);
     Iterable<Project> findDistinctByTasksNameContaining(String taskName);
 }
@@ -0,0 +1,16 @@
+package com.baeldung.lsd.persistence.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.baeldung.lsd.persistence.model.Project;
+
+public interface ProjectSearchRepository {
+
+    /**
+     * Full-text search over project name and description, most relevant first. Unlike the {@code findByName*} LIKE
+     * queries it matches whole words, not arbitrary substrings, and answers from the index instead of scanning the
+     * table.
+     */
+    Page<Project> search(String text, Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.baeldung.lsd.persistence.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.baeldung.lsd.persistence.model.Project;
+import com.baeldung.lsd.persistence.search.SearchIndex;
+
+import jakarta.persistence.EntityManager;
+
+class ProjectSearchRepositoryImpl implements ProjectSearchRepository {
+
+    private final SearchResults searchResults;
+
+    ProjectSearchRepositoryImpl(EntityManager entityManager, SearchIndex searchIndex) {
+        this.searchResults = new SearchResults(entityManager, searchIndex);
+    }
+
+    @Override
+    public Page<Project> search(String text, Pageable pageable) {
+        return searchResults.page(Project.class, Project::getId, text, pageable);
+    }
+}
@@ -0,0 +1,43 @@
+package com.baeldung.lsd.persistence.repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import com.baeldung.lsd.persistence.search.SearchIndex;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Turns a page of ids from the {@link SearchIndex} into a page of entities in relevance order.
+ */
+class SearchResults {
+
+    private final EntityManager entityManager;
+
+    private final SearchIndex searchIndex;
+
+    SearchResults(EntityManager entityManager, SearchIndex searchIndex) {
+        this.entityManager = entityManager;
+        this.searchIndex = searchIndex;
+    }
+
+    <T> Page<T> page(Class<T> type, Function<T, Long> idOf, String text, Pageable pageable) {
+        SearchIndex.Hits hits = searchIndex.search(type, text, pageable);
+        if (hits.ids()
+            .isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+        List<T> entities = entityManager.createQuery("select e from " + type.getSimpleName() + " e where e.id in :ids", type)
+            .setParameter("ids", hits.ids())
+            .getResultList();
+        // an entity deleted since the index was last refreshed is simply missing from the page
+        entities.sort(Comparator.comparingInt(entity -> hits.ids()
+            .indexOf(idOf.apply(entity))));
+        return new PageImpl<>(entities, pageable, hits.total());
+    }
+}
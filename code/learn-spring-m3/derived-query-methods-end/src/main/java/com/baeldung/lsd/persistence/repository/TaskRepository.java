@@ -8,7 +8,7 @@ import org.springframework.data.repository.CrudRepository;
 import com.baeldung.lsd.persistence.model.Task;
 import com.baeldung.lsd.persistence.model.TaskStatus;
 
-public interface TaskRepository extends CrudRepository<Task, Long> {
+public interface TaskRepository extends CrudRepository<Task, Long>, TaskSearchRepository {
     List<Task> findByDueDateLessThan(LocalDate dueDate);
     List<Task> findByDueDateGreaterThan(LocalDate dueDate);
     List<Task> findByDueDateLessThanEqual(LocalDate dueDate);
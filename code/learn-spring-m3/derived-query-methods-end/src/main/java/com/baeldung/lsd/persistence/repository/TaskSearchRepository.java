@@ -0,0 +1,14 @@
+package com.baeldung.lsd.persistence.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.baeldung.lsd.persistence.model.Task;
+
+public interface TaskSearchRepository {
+
+    /**
+     * Full-text search over task name and description, most relevant first.
+     */
+    Page<Task> search(String text, Pageable pageable);
+}
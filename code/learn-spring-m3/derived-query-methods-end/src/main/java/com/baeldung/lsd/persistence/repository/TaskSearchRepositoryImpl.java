@@ -0,0 +1,23 @@
+package com.baeldung.lsd.persistence.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.baeldung.lsd.persistence.model.Task;
+import com.baeldung.lsd.persistence.search.SearchIndex;
+
+import jakarta.persistence.EntityManager;
+
+class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    private final SearchResults searchResults;
+
+    TaskSearchRepositoryImpl(EntityManager entityManager, SearchIndex searchIndex) {
+        this.searchResults = new SearchResults(entityManager, searchIndex);
+    }
+
+    @Override
+    public Page<Task> search(String text, Pageable pageable) {
+        return searchResults.page(Task.class, Task::getId, text, pageable);
+    }
+}
@@ -0,0 +1,184 @@
+package com.baeldung.lsd.persistence.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process Lucene index over the {@code name} and {@code description} of projects and tasks.
+ * <p>
+ * Documents only hold the entity type and id, searches return ids ranked by BM25 relevance with matches in
+ * {@code name} weighted twice as much as matches in {@code description}. The index lives in memory unless
+ * {@code search.index.path} is set, and is rebuilt from the database on startup by {@link SearchIndexLoader}.
+ */
+@Component
+public class SearchIndex implements DisposableBean {
+
+    private static final String KEY = "key";
+
+    private static final String TYPE = "type";
+
+    private static final String ID = "id";
+
+    private static final String NAME = "name";
+
+    private static final String DESCRIPTION = "description";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private final Directory directory;
+
+    private final IndexWriter writer;
+
+    private final SearcherManager searcherManager;
+
+    public SearchIndex(@Value("${search.index.path:}") String path) throws IOException {
+        this.directory = path.isEmpty() ? new ByteBuffersDirectory() : FSDirectory.open(Paths.get(path));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Adds or replaces the document of the given entity. Not visible to searches before {@link #refresh()}.
+     */
+    public void put(Class<?> type, Long id, String name, String description) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(type, id), Field.Store.NO));
+        document.add(new StringField(TYPE, type.getSimpleName(), Field.Store.NO));
+        document.add(new StoredField(ID, id));
+        if (name != null) {
+            document.add(new TextField(NAME, name, Field.Store.NO));
+        }
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(KEY, key(type, id)), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes the document of the given entity. Still visible to searches before {@link #refresh()}.
+     */
+    public void remove(Class<?> type, Long id) {
+        try {
+            writer.deleteDocuments(new Term(KEY, key(type, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void clear() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return ids of the entities of {@code type} on the requested page of matches for {@code text}, most relevant first
+     * @throws IllegalArgumentException if {@code text} cannot be parsed into a query
+     */
+    public Hits search(Class<?> type, String text, Pageable pageable) {
+        if (text == null || text.isBlank()) {
+            return new Hits(List.of(), 0);
+        }
+        Query query = new BooleanQuery.Builder().add(parse(text), Occur.MUST)
+            .add(new TermQuery(new Term(TYPE, type.getSimpleName())), Occur.FILTER)
+            .build();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int offset = (int) pageable.getOffset();
+                TopDocs top = searcher.search(query, offset + pageable.getPageSize());
+                long total = top.totalHits.relation == TotalHits.Relation.EQUAL_TO ? top.totalHits.value : searcher.count(query);
+                List<Long> ids = new ArrayList<>();
+                StoredFields storedFields = searcher.storedFields();
+                for (int i = offset; i < top.scoreDocs.length; i++) {
+                    ScoreDoc hit = top.scoreDocs[i];
+                    ids.add(storedFields.document(hit.doc)
+                        .getField(ID)
+                        .numericValue()
+                        .longValue());
+                }
+                return new Hits(ids, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query parse(String text) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(new String[] { NAME, DESCRIPTION }, analyzer, Map.of(NAME, 2f, DESCRIPTION, 1f));
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(QueryParser.escape(text));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Cannot search for '" + text + "'", e);
+        }
+    }
+
+    private static String key(Class<?> type, Long id) {
+        return type.getSimpleName() + ":" + id;
+    }
+
+    /**
+     * @param total number of matches over all pages
+     */
+    public record Hits(List<Long> ids, long total) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.baeldung.lsd.persistence.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.baeldung.lsd.persistence.model.Project;
+import com.baeldung.lsd.persistence.model.Task;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Keeps the {@link SearchIndex} in sync with projects and tasks written through JPA. Changes are collected per
+ * transaction and applied after it commits, so rolled back writes never reach the index and each commit refreshes it
+ * once. Bulk JPQL or SQL statements bypass entity callbacks and are not picked up.
+ */
+public class SearchIndexListener {
+
+    private final SearchIndex searchIndex;
+
+    public SearchIndexListener(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void saved(Object entity) {
+        Runnable change = switch (entity) {
+            case Project project -> put(Project.class, project.getId(), project.getName(), project.getDescription());
+            case Task task -> put(Task.class, task.getId(), task.getName(), task.getDescription());
+            default -> throw new IllegalArgumentException("Not searchable: " + entity.getClass());
+        };
+        apply(change);
+    }
+
+    @PostRemove
+    void removed(Object entity) {
+        Runnable change = switch (entity) {
+            case Project project -> remove(Project.class, project.getId());
+            case Task task -> remove(Task.class, task.getId());
+            default -> throw new IllegalArgumentException("Not searchable: " + entity.getClass());
+        };
+        apply(change);
+    }
+
+    // the values are read now, the entity may change again before the transaction commits
+    private Runnable put(Class<?> type, Long id, String name, String description) {
+        return () -> searchIndex.put(type, id, name, description);
+    }
+
+    private Runnable remove(Class<?> type, Long id) {
+        return () -> searchIndex.remove(type, id);
+    }
+
+    private void apply(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            searchIndex.refresh();
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(searchIndex);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(searchIndex, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(change);
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final List<Runnable> changes = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            changes.forEach(Runnable::run);
+            searchIndex.refresh();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(searchIndex);
+        }
+    }
+}
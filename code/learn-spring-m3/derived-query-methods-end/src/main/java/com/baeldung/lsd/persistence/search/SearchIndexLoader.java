@@ -0,0 +1,61 @@
+package com.baeldung.lsd.persistence.search;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.baeldung.lsd.persistence.model.Project;
+import com.baeldung.lsd.persistence.model.Task;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Rebuilds the {@link SearchIndex} from the database once the context is up, which also covers rows inserted by
+ * {@code data.sql} behind the back of {@link SearchIndexListener}.
+ */
+@Component
+public class SearchIndexLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndexLoader.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    private final SearchIndex searchIndex;
+
+    public SearchIndexLoader(EntityManager entityManager, SearchIndex searchIndex) {
+        this.entityManager = entityManager;
+        this.searchIndex = searchIndex;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    @Transactional(readOnly = true)
+    public void reindex() {
+        long start = System.nanoTime();
+        searchIndex.clear();
+        long projects = load(Project.class);
+        long tasks = load(Task.class);
+        searchIndex.refresh();
+        LOG.info("Indexed {} projects and {} tasks for search in {} ms", projects, tasks, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // reads plain columns, materializing millions of entities would only fill the persistence context
+    private long load(Class<?> type) {
+        try (Stream<Object[]> rows = entityManager.createQuery("select e.id, e.name, e.description from " + type.getSimpleName() + " e", Object[].class)
+            .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+            .getResultStream()) {
+            long count = 0;
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                searchIndex.put(type, (Long) row[0], (String) row[1], (String) row[2]);
+                count++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.baeldung.lsd.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.baeldung.lsd.DerivedQueryMethodsApp;
+import com.baeldung.lsd.persistence.model.Project;
+import com.baeldung.lsd.persistence.repository.ProjectRepository;
+import com.baeldung.lsd.persistence.search.SearchIndexLoader;
+
+/**
+ * Time to find the first page of projects whose name contains a word, among {@value #ROWS} projects: a
+ * {@code LIKE '%word%'} scan through {@link ProjectRepository#findByNameContaining(String)} against
+ * {@link ProjectRepository#search(String, org.springframework.data.domain.Pageable)}. Every word matches
+ * {@value #MATCHES} projects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ProjectSearchBenchmark {
+
+    static final int ROWS = 1_000_000;
+
+    static final int MATCHES = 100;
+
+    static final int WORDS = ROWS / MATCHES;
+
+    static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    ConfigurableApplicationContext context;
+
+    ProjectRepository projectRepository;
+
+    // H2 answers a repeated query with the same parameters from its cache, so every call asks for another word
+    int next;
+
+    @Setup(Level.Trial)
+    public void loadProjects() {
+        context = new SpringApplicationBuilder(DerivedQueryMethodsApp.class).web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "--spring.jpa.show-sql=false", "--logging.level.root=warn");
+        projectRepository = context.getBean(ProjectRepository.class);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            long id = 1000L + i;
+            rows.add(new Object[] { id, "B" + id, "Project " + word(i % WORDS), "Generated project " + id });
+        }
+        context.getBean(JdbcTemplate.class)
+            .batchUpdate("INSERT INTO Project(id, code, name, description) VALUES (?, ?, ?, ?)", rows);
+        context.getBean(SearchIndexLoader.class)
+            .reindex();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int likeScan() {
+        int count = 0;
+        for (Project project : projectRepository.findByNameContaining(nextWord())) {
+            if (++count == FIRST_PAGE.getPageSize()) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int fullTextSearch() {
+        return projectRepository.search(nextWord(), FIRST_PAGE)
+            .getNumberOfElements();
+    }
+
+    private String nextWord() {
+        next = (next + 1) % WORDS;
+        return word(next);
+    }
+
+    // distinct tokens that are not substrings of each other, so LIKE and the index agree on the matches
+    private static String word(int i) {
+        return "k" + i + "z";
+    }
+}
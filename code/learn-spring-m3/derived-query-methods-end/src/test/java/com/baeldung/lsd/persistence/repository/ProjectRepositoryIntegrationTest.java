@@ -0,0 +1,79 @@
+package com.baeldung.lsd.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.baeldung.lsd.persistence.model.Project;
+
+@SpringBootTest
+class ProjectRepositoryIntegrationTest {
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @AfterEach
+    void deleteTestProjects() {
+        projectRepository.deleteAll(projectRepository.findByNameStartingWith("Search"));
+    }
+
+    @Test
+    void givenLoadedProjects_whenSearch_thenIndexedOnStartup() {
+        Page<Project> page = projectRepository.search("description", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(Project::getCode)
+            .containsExactly("P1");
+    }
+
+    @Test
+    void givenNameAndDescriptionMatches_whenSearch_thenNameMatchesRankFirst() {
+        projectRepository.saveAll(List.of(new Project("S-DESC", "Search other", "all about zeppelins"), new Project("S-NAME", "Search zeppelin", "nothing to see")));
+
+        Page<Project> page = projectRepository.search("zeppelin", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(Project::getCode)
+            .containsExactly("S-NAME");
+        assertThat(projectRepository.search("zeppelins", PageRequest.of(0, 10))
+            .getContent()).extracting(Project::getCode)
+            .containsExactly("S-DESC");
+
+        projectRepository.save(new Project("S-BOTH", "Search zeppelin", "zeppelin"));
+        assertThat(projectRepository.search("zeppelin", PageRequest.of(0, 10))
+            .getContent()).extracting(Project::getCode)
+            .containsExactly("S-BOTH", "S-NAME");
+    }
+
+    @Test
+    void givenSavedProject_whenUpdatedAndDeleted_thenIndexFollows() {
+        Project project = projectRepository.save(new Project("S-SYNC", "Search walrus", "tusks"));
+        assertThat(projectRepository.search("walrus", PageRequest.of(0, 10))).containsExactly(project);
+
+        project.setName("Search narwhal");
+        projectRepository.save(project);
+        assertThat(projectRepository.search("walrus", PageRequest.of(0, 10))).isEmpty();
+        assertThat(projectRepository.search("narwhal", PageRequest.of(0, 10))).containsExactly(project);
+
+        projectRepository.delete(project);
+        assertThat(projectRepository.search("narwhal", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void givenManyMatches_whenSearchPage_thenPageAndTotal() {
+        for (int i = 0; i < 5; i++) {
+            projectRepository.save(new Project("S-PAGE-" + i, "Search aardvark " + i, null));
+        }
+
+        Page<Project> second = projectRepository.search("aardvark", PageRequest.of(1, 2));
+
+        assertThat(second.getTotalElements()).isEqualTo(5);
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.hasNext()).isTrue();
+    }
+}
@@ -11,9 +11,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 
 import com.baeldung.lsd.persistence.model.Task;
 import com.baeldung.lsd.persistence.repository.TaskRepository;
+import com.baeldung.lsd.persistence.repository.TaskScrollOrder;
 
 @SpringBootApplication
 public class PaginationAndSortingApp implements ApplicationRunner {
@@ -56,5 +58,14 @@ public class PaginationAndSortingApp implements ApplicationRunner {
         Page<Task> tasksPage1SortedByNameDsc = taskRepository.findAll(tasksFirstPageSortedByNameDsc);
         LOG.info("Page 1 of All Tasks Sorted by Name in Descending Order:");
         tasksPage1SortedByNameDsc.forEach(task -> LOG.info(task.toString()));
+
+        Window<Task> tasksWindow1ByDueDate = taskRepository.scroll(TaskScrollOrder.DUE_DATE, TaskScrollOrder.DUE_DATE.position(null), 2);
+        LOG.info("Window 1 of All Tasks Sorted by Due Date:");
+        tasksWindow1ByDueDate.forEach(task -> LOG.info(task.toString()));
+
+        String nextToken = TaskScrollOrder.DUE_DATE.token(tasksWindow1ByDueDate.positionAt(tasksWindow1ByDueDate.size() - 1));
+        Window<Task> tasksWindow2ByDueDate = taskRepository.scroll(TaskScrollOrder.DUE_DATE, TaskScrollOrder.DUE_DATE.position(nextToken), 2);
+        LOG.info("Window 2 of All Tasks Sorted by Due Date, after token {}:", nextToken);
+        tasksWindow2ByDueDate.forEach(task -> LOG.info(task.toString()));
     }
 }
@@ -9,12 +9,18 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 
+// back the keyset pagination orders of TaskScrollOrder
 @Entity
+@Table(indexes = { @Index(columnList = "dueDate, id"), @Index(columnList = "name, id") })
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, updatable = false)
@@ -0,0 +1,46 @@
+package com.baeldung.lsd.persistence.repository;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Total number of tasks for clients that page through {@link TaskRepository#findAllBy} but still want to show a
+ * total. The count is run at most once per {@code task.count.ttl} and may be that stale.
+ */
+@Component
+public class TaskCountCache {
+
+    private final TaskRepository taskRepository;
+
+    private final long ttlNanos;
+
+    private volatile Snapshot snapshot;
+
+    public TaskCountCache(TaskRepository taskRepository, @Value("${task.count.ttl:30s}") Duration ttl) {
+        this.taskRepository = taskRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public long get() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.takenAt() >= ttlNanos) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || System.nanoTime() - current.takenAt() >= ttlNanos) {
+                    current = new Snapshot(taskRepository.count(), System.nanoTime());
+                    snapshot = current;
+                }
+            }
+        }
+        return current.count();
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private record Snapshot(long count, long takenAt) {
+    }
+}
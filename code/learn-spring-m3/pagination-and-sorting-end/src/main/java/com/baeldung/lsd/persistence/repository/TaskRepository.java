@@ -1,9 +1,48 @@
 package com.baeldung.lsd.persistence.repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import com.baeldung.lsd.persistence.model.Task;
 
 public interface TaskRepository extends CrudRepository<Task, Long>, PagingAndSortingRepository<Task, Long> {
+
+    /**
+     * Like {@link #findAll(Pageable)} without the count query: reads one row past the page to tell whether another one
+     * follows. Pair it with {@link TaskCountCache} when a total is needed.
+     */
+    Slice<Task> findAllBy(Pageable pageable);
+
+    List<Task> findByDueDateNotNullOrderByDueDateAscIdAsc(Limit limit);
+
+    // the leading range on dueDate lets the (dueDate, id) index seek straight to the position
+    @Query("select t from Task t where t.dueDate >= :dueDate and (t.dueDate > :dueDate or t.id > :id) order by t.dueDate, t.id")
+    List<Task> findAfterDueDate(LocalDate dueDate, Long id, Limit limit);
+
+    List<Task> findByNameNotNullOrderByNameAscIdAsc(Limit limit);
+
+    @Query("select t from Task t where t.name >= :name and (t.name > :name or t.id > :id) order by t.name, t.id")
+    List<Task> findAfterName(String name, Long id, Limit limit);
+
+    /**
+     * Keyset pagination: seeks past the task at {@code position} instead of skipping rows with an OFFSET, and runs no
+     * count query.
+     *
+     * @param position from {@link TaskScrollOrder#position(String)}
+     */
+    default Window<Task> scroll(TaskScrollOrder order, KeysetScrollPosition position, int size) {
+        List<Task> tasks = order.fetch(this, position, Limit.of(size + 1));
+        boolean hasNext = tasks.size() > size;
+        List<Task> content = hasNext ? tasks.subList(0, size) : tasks;
+        return Window.from(content, index -> order.positionOf(content.get(index)), hasNext);
+    }
 }
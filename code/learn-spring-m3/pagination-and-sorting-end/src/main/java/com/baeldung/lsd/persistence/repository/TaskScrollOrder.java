@@ -0,0 +1,128 @@
+package com.baeldung.lsd.persistence.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.baeldung.lsd.persistence.model.Task;
+
+/**
+ * Sort orders supported by keyset pagination of tasks, each one made unique by {@code id} as the tie-breaker.
+ * <p>
+ * A position is handed out as an opaque URL-safe token holding the order and the keys of the last task returned.
+ * Tasks with a {@code null} sort key have no keyset position and are left out when scrolling in that order.
+ */
+public enum TaskScrollOrder {
+
+    DUE_DATE("dueDate") {
+        @Override
+        Object keyOf(Task task) {
+            return task.getDueDate();
+        }
+
+        @Override
+        Object parseKey(String key) {
+            return LocalDate.parse(key);
+        }
+
+        @Override
+        List<Task> fetchAfter(TaskRepository repository, Object key, Long id, Limit limit) {
+            return key == null ? repository.findByDueDateNotNullOrderByDueDateAscIdAsc(limit) : repository.findAfterDueDate((LocalDate) key, id, limit);
+        }
+    },
+    NAME("name") {
+        @Override
+        Object keyOf(Task task) {
+            return task.getName();
+        }
+
+        @Override
+        Object parseKey(String key) {
+            return key;
+        }
+
+        @Override
+        List<Task> fetchAfter(TaskRepository repository, Object key, Long id, Limit limit) {
+            return key == null ? repository.findByNameNotNullOrderByNameAscIdAsc(limit) : repository.findAfterName((String) key, id, limit);
+        }
+    };
+
+    private static final String SEPARATOR = ":";
+
+    private final String property;
+
+    TaskScrollOrder(String property) {
+        this.property = property;
+    }
+
+    public Sort sort() {
+        return Sort.by(property, "id");
+    }
+
+    /**
+     * @return the position encoded by {@code token}, or the start of the first window if {@code token} is empty
+     * @throws IllegalArgumentException if the token is malformed or was issued for another order
+     */
+    public KeysetScrollPosition position(String token) {
+        if (token == null || token.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder()
+                .decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed continuation token", e);
+        }
+        if (parts.length != 3 || !parts[0].equals(name())) {
+            throw new IllegalArgumentException("Continuation token was not issued for order " + name());
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            keys.put(property, parseKey(parts[2]));
+            keys.put("id", Long.valueOf(parts[1]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed continuation token", e);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * @return the token that resumes scrolling after {@code position}
+     */
+    public String token(ScrollPosition position) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        // the id goes first so that the sort key may contain the separator
+        String raw = name() + SEPARATOR + keys.get("id") + SEPARATOR + keys.get(property);
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    KeysetScrollPosition positionOf(Task task) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(property, keyOf(task));
+        keys.put("id", task.getId());
+        return ScrollPosition.forward(keys);
+    }
+
+    List<Task> fetch(TaskRepository repository, KeysetScrollPosition position, Limit limit) {
+        Map<String, Object> keys = position.getKeys();
+        return fetchAfter(repository, keys.get(property), (Long) keys.get("id"), limit);
+    }
+
+    abstract Object keyOf(Task task);
+
+    abstract Object parseKey(String key);
+
+    abstract List<Task> fetchAfter(TaskRepository repository, Object key, Long id, Limit limit);
+}
@@ -0,0 +1,74 @@
+package com.baeldung.lsd.web.controller;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.baeldung.lsd.persistence.model.Task;
+import com.baeldung.lsd.persistence.repository.TaskCountCache;
+import com.baeldung.lsd.persistence.repository.TaskRepository;
+import com.baeldung.lsd.persistence.repository.TaskScrollOrder;
+import com.baeldung.lsd.web.dto.TaskDto;
+import com.baeldung.lsd.web.dto.TaskSliceDto;
+import com.baeldung.lsd.web.dto.TaskWindowDto;
+
+@RestController
+@RequestMapping(value = "/tasks")
+public class TaskController {
+
+    private static final int MAX_SIZE = 100;
+
+    private TaskRepository taskRepository;
+
+    private TaskCountCache taskCountCache;
+
+    public TaskController(TaskRepository taskRepository, TaskCountCache taskCountCache) {
+        this.taskRepository = taskRepository;
+        this.taskCountCache = taskCountCache;
+    }
+
+    @GetMapping
+    public TaskWindowDto scroll(@RequestParam(defaultValue = "DUE_DATE") TaskScrollOrder order, @RequestParam(required = false) String token,
+        @RequestParam(defaultValue = "20") int size) {
+        checkSize(size);
+        KeysetScrollPosition position;
+        try {
+            position = order.position(token);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        Window<Task> window = taskRepository.scroll(order, position, size);
+        String next = window.hasNext() ? order.token(window.positionAt(window.size() - 1)) : null;
+        return new TaskWindowDto(window.map(this::convertToDto)
+            .getContent(), next);
+    }
+
+    @GetMapping(value = "/slice")
+    public TaskSliceDto slice(@RequestParam(defaultValue = "DUE_DATE") TaskScrollOrder order, @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size, @RequestParam(defaultValue = "false") boolean total) {
+        checkSize(size);
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must not be negative");
+        }
+        Slice<Task> slice = taskRepository.findAllBy(PageRequest.of(page, size, order.sort()));
+        return new TaskSliceDto(slice.map(this::convertToDto)
+            .getContent(), page, size, slice.hasNext(), total ? taskCountCache.get() : null);
+    }
+
+    private static void checkSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_SIZE);
+        }
+    }
+
+    private TaskDto convertToDto(Task task) {
+        return new TaskDto(task.getId(), task.getName(), task.getDescription(), task.getDueDate(), task.getStatus());
+    }
+}
@@ -0,0 +1,8 @@
+package com.baeldung.lsd.web.dto;
+
+import java.time.LocalDate;
+
+import com.baeldung.lsd.persistence.model.TaskStatus;
+
+public record TaskDto(Long id, String name, String description, LocalDate dueDate, TaskStatus status) {
+}
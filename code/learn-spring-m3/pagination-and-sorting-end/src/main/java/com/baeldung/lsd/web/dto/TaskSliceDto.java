@@ -0,0 +1,9 @@
+package com.baeldung.lsd.web.dto;
+
+import java.util.List;
+
+/**
+ * @param total cached total number of tasks, {@code null} unless requested
+ */
+public record TaskSliceDto(List<TaskDto> content, int page, int size, boolean hasNext, Long total) {
+}
@@ -0,0 +1,9 @@
+package com.baeldung.lsd.web.dto;
+
+import java.util.List;
+
+/**
+ * @param next continuation token for the following window, {@code null} on the last one
+ */
+public record TaskWindowDto(List<TaskDto> content, String next) {
+}
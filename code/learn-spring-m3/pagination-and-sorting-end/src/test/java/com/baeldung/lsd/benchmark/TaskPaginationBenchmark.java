@@ -0,0 +1,102 @@
+package com.baeldung.lsd.benchmark;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.baeldung.lsd.PaginationAndSortingApp;
+import com.baeldung.lsd.persistence.model.Task;
+import com.baeldung.lsd.persistence.repository.TaskRepository;
+import com.baeldung.lsd.persistence.repository.TaskScrollOrder;
+
+/**
+ * Fetching page {@value #PAGE} of tasks ordered by due date with OFFSET/LIMIT plus a count query, with OFFSET/LIMIT
+ * alone as a {@link Slice}, and by seeking to the same window from a keyset position.
+ * <p>
+ * Invocations alternate with the following page, H2 would otherwise hand back the cached result of a statement that
+ * is run again with the same parameters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaskPaginationBenchmark {
+
+    static final int PAGE = 10_000;
+
+    static final int SIZE = 20;
+
+    static final int TASKS = 250_000;
+
+    ConfigurableApplicationContext context;
+
+    TaskRepository taskRepository;
+
+    KeysetScrollPosition[] positions = new KeysetScrollPosition[2];
+
+    int invocation;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        context = new SpringApplicationBuilder(PaginationAndSortingApp.class).web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "--spring.jpa.show-sql=false", "--logging.level.root=warn");
+        taskRepository = context.getBean(TaskRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        // ids clear of data.sql and the task sequence, due dates repeat so that ties are broken by id
+        List<Object[]> rows = IntStream.range(0, TASKS)
+            .mapToObj(i -> new Object[] { 1_000_000L + i, UUID.randomUUID()
+                .toString(), "Task " + i, "Generated task " + i, Date.valueOf(start.plusDays(i % 3650)), 1L, 0 })
+            .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO Task(id, uuid, name, description, due_date, project_id, status) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+
+        for (int i = 0; i < positions.length; i++) {
+            Map<String, Object> last = jdbcTemplate.queryForMap("SELECT due_date, id FROM Task ORDER BY due_date, id OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY", (PAGE + i) * SIZE - 1);
+            positions[i] = ScrollPosition.forward(Map.of("dueDate", ((Date) last.get("due_date")).toLocalDate(), "id", last.get("id")));
+            if (!taskRepository.findAll(PageRequest.of(PAGE + i, SIZE, TaskScrollOrder.DUE_DATE.sort()))
+                .getContent()
+                .equals(taskRepository.scroll(TaskScrollOrder.DUE_DATE, positions[i], SIZE)
+                    .getContent())) {
+                throw new IllegalStateException("Offset and keyset pagination disagree on page " + (PAGE + i));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Task> offset() {
+        return taskRepository.findAll(PageRequest.of(PAGE + (invocation++ & 1), SIZE, TaskScrollOrder.DUE_DATE.sort()));
+    }
+
+    @Benchmark
+    public Slice<Task> slice() {
+        return taskRepository.findAllBy(PageRequest.of(PAGE + (invocation++ & 1), SIZE, TaskScrollOrder.DUE_DATE.sort()));
+    }
+
+    @Benchmark
+    public Window<Task> keyset() {
+        return taskRepository.scroll(TaskScrollOrder.DUE_DATE, positions[invocation++ & 1], SIZE);
+    }
+}
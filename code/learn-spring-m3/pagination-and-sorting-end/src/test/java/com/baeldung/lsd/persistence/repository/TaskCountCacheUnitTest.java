@@ -0,0 +1,40 @@
+package com.baeldung.lsd.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TaskCountCacheUnitTest {
+
+    TaskRepository taskRepository = mock(TaskRepository.class);
+
+    @Test
+    void givenCountWithinTtl_whenGet_thenCachedCount() {
+        when(taskRepository.count()).thenReturn(4L, 5L);
+        TaskCountCache cache = new TaskCountCache(taskRepository, Duration.ofHours(1));
+
+        assertThat(cache.get()).isEqualTo(4L);
+        assertThat(cache.get()).isEqualTo(4L);
+        verify(taskRepository, times(1)).count();
+    }
+
+    @Test
+    void givenInvalidatedOrExpiredCount_whenGet_thenCountedAgain() {
+        when(taskRepository.count()).thenReturn(4L, 5L, 6L);
+        TaskCountCache cache = new TaskCountCache(taskRepository, Duration.ofHours(1));
+        cache.get();
+
+        cache.invalidate();
+        assertThat(cache.get()).isEqualTo(5L);
+
+        TaskCountCache expiring = new TaskCountCache(taskRepository, Duration.ZERO);
+        assertThat(expiring.get()).isEqualTo(6L);
+        verify(taskRepository, times(3)).count();
+    }
+}
@@ -0,0 +1,53 @@
+package com.baeldung.lsd.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.baeldung.lsd.persistence.model.Task;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskRepositoryIntegrationTest {
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void givenTasks_whenFindAllBySlice_thenNoCountQuery() {
+        Slice<Task> first = taskRepository.findAllBy(PageRequest.of(0, 3, TaskScrollOrder.DUE_DATE.sort()));
+
+        assertThat(first.getContent()).extracting(Task::getId)
+            .containsExactly(1L, 2L, 3L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+
+        Slice<Task> last = taskRepository.findAllBy(first.nextPageable());
+
+        assertThat(last.getContent()).extracting(Task::getId)
+            .containsExactly(4L);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,34 @@
+package com.baeldung.lsd.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+
+class TaskScrollOrderUnitTest {
+
+    @Test
+    void givenPosition_whenTokenDecoded_thenSameKeys() {
+        ScrollPosition byDueDate = ScrollPosition.forward(Map.of("dueDate", LocalDate.of(2025, 2, 10), "id", 2L));
+        ScrollPosition byName = ScrollPosition.forward(Map.of("name", "Task: with separator", "id", 7L));
+
+        assertThat(TaskScrollOrder.DUE_DATE.position(TaskScrollOrder.DUE_DATE.token(byDueDate))).isEqualTo(byDueDate);
+        assertThat(TaskScrollOrder.NAME.position(TaskScrollOrder.NAME.token(byName))).isEqualTo(byName);
+    }
+
+    @Test
+    void givenNoToken_whenPosition_thenInitial() {
+        assertThat(TaskScrollOrder.NAME.position(null)
+            .isInitial()).isTrue();
+    }
+
+    @Test
+    void givenMalformedToken_whenPosition_thenIllegalArgument() {
+        assertThatIllegalArgumentException().isThrownBy(() -> TaskScrollOrder.DUE_DATE.position("not a token!"));
+        assertThatIllegalArgumentException().isThrownBy(() -> TaskScrollOrder.DUE_DATE.position(TaskScrollOrder.NAME.token(ScrollPosition.forward(Map.of("name", "x", "id", 1L)))));
+    }
+}
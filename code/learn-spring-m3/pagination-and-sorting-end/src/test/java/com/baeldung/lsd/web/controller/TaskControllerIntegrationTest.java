@@ -0,0 +1,95 @@
+package com.baeldung.lsd.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.baeldung.lsd.web.dto.TaskDto;
+import com.baeldung.lsd.web.dto.TaskSliceDto;
+import com.baeldung.lsd.web.dto.TaskWindowDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class TaskControllerIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void givenTasks_whenScrollByDueDate_thenAllTasksInDueDateOrder() throws Exception {
+        assertThat(scrollAll("DUE_DATE")).extracting(TaskDto::id)
+            .containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void givenTasks_whenScrollByName_thenAllTasksInNameOrder() throws Exception {
+        assertThat(scrollAll("NAME")).extracting(TaskDto::name)
+            .containsExactly("Task 1", "Task 2", "Task 3", "Task 4");
+    }
+
+    @Test
+    void givenTokenOfAnotherOrder_whenScroll_thenBadRequest() throws Exception {
+        String token = fetch("NAME", null).next();
+
+        mockMvc.perform(get("/tasks").param("order", "DUE_DATE")
+            .param("size", "3")
+            .param("token", token))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenTasks_whenSliceWithTotal_thenNextFlagAndCachedTotal() throws Exception {
+        String body = mockMvc.perform(get("/tasks/slice").param("order", "NAME")
+            .param("page", "1")
+            .param("size", "3")
+            .param("total", "true"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        TaskSliceDto slice = objectMapper.readValue(body, TaskSliceDto.class);
+
+        assertThat(slice.content()).extracting(TaskDto::name)
+            .containsExactly("Task 4");
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.total()).isEqualTo(4L);
+    }
+
+    private List<TaskDto> scrollAll(String order) throws Exception {
+        List<TaskDto> tasks = new ArrayList<>();
+        String token = null;
+        do {
+            TaskWindowDto window = fetch(order, token);
+            assertThat(window.content()).hasSizeLessThanOrEqualTo(3);
+            tasks.addAll(window.content());
+            token = window.next();
+        } while (token != null);
+        return tasks;
+    }
+
+    private TaskWindowDto fetch(String order, String token) throws Exception {
+        String body = mockMvc.perform(get("/tasks").param("order", order)
+            .param("size", "3")
+            .param("token", token))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return objectMapper.readValue(body, TaskWindowDto.class);
+    }
+}
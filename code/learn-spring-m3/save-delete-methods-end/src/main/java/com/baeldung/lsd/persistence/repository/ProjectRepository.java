@@ -1,11 +1,23 @@
 package com.baeldung.lsd.persistence.repository;
 
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.baeldung.lsd.persistence.model.Project;
 
 public interface ProjectRepository extends CrudRepository<Project, Long> {
+    @Override
+    @EntityGraph(Project.SUMMARY_GRAPH)
+    Iterable<Project> findAll();
+
+    @Override
+    @EntityGraph(Project.DETAIL_GRAPH)
+    Optional<Project> findById(Long id);
+
+    @EntityGraph(Project.SUMMARY_GRAPH)
     Iterable<Project> findByNameContaining(String name);
 
     @Transactional
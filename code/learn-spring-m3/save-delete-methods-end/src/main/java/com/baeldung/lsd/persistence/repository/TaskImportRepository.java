@@ -0,0 +1,14 @@
+package com.baeldung.lsd.persistence.repository;
+
+import com.baeldung.lsd.persistence.model.Task;
+
+public interface TaskImportRepository {
+
+    /**
+     * Persists {@code tasks} in a single transaction, flushing and clearing the persistence context every JDBC batch
+     * so that memory stays flat however many tasks the {@link Iterable} produces.
+     *
+     * @return the number of imported tasks
+     */
+    long importTasks(Iterable<Task> tasks);
+}
@@ -0,0 +1,36 @@
+package com.baeldung.lsd.persistence.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.baeldung.lsd.persistence.model.Task;
+
+import jakarta.persistence.EntityManager;
+
+class TaskImportRepositoryImpl implements TaskImportRepository {
+
+    private final EntityManager entityManager;
+
+    private final int batchSize;
+
+    TaskImportRepositoryImpl(EntityManager entityManager, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public long importTasks(Iterable<Task> tasks) {
+        long count = 0;
+        for (Task task : tasks) {
+            entityManager.persist(task);
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+}
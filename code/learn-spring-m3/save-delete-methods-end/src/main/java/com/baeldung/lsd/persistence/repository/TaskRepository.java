@@ -4,5 +4,5 @@ import org.springframework.data.repository.CrudRepository;
 
 import com.baeldung.lsd.persistence.model.Task;
 
-public interface TaskRepository extends CrudRepository<Task, Long> {
+public interface TaskRepository extends CrudRepository<Task, Long>, TaskImportRepository {
 }
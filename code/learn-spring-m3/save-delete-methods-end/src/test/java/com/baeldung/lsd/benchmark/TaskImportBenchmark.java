@@ -0,0 +1,69 @@
+package com.baeldung.lsd.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.baeldung.lsd.SaveDeleteMethodsApp;
+import com.baeldung.lsd.persistence.model.Project;
+import com.baeldung.lsd.persistence.model.Task;
+import com.baeldung.lsd.persistence.repository.ProjectRepository;
+import com.baeldung.lsd.persistence.repository.TaskRepository;
+
+/**
+ * Rows per second for importing {@value #ROWS} tasks into the in-memory H2 database through
+ * {@link TaskRepository#importTasks(Iterable)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TaskImportBenchmark.ROWS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaskImportBenchmark {
+
+    static final int ROWS = 1_000_000;
+
+    ConfigurableApplicationContext context;
+
+    TaskRepository taskRepository;
+
+    JdbcTemplate jdbcTemplate;
+
+    Project project;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(SaveDeleteMethodsApp.class).web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "--logging.level.root=warn", "--logging.level.org.hibernate=off");
+        taskRepository = context.getBean(TaskRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        project = context.getBean(ProjectRepository.class)
+            .save(new Project("BENCH", "benchmark project", "target of the imported tasks"));
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteImportedTasks() {
+        jdbcTemplate.update("DELETE FROM Task WHERE project_id = ?", project.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public long importTasks() {
+        LocalDate dueDate = LocalDate.of(2025, 1, 1);
+        return taskRepository.importTasks(() -> IntStream.range(0, ROWS)
+            .mapToObj(i -> new Task("Task " + i, "Imported task " + i, dueDate, project))
+            .iterator());
+    }
+}
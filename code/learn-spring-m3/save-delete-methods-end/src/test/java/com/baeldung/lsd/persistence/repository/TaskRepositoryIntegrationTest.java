@@ -0,0 +1,47 @@
+package com.baeldung.lsd.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.baeldung.lsd.persistence.model.Project;
+import com.baeldung.lsd.persistence.model.Task;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskRepositoryIntegrationTest {
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    void givenManyTasks_whenImportTasks_thenInsertedInJdbcBatches() {
+        Project project = entityManager.find(Project.class, 1L);
+        long before = taskRepository.count();
+        Statistics statistics = entityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        long imported = taskRepository.importTasks(IntStream.range(0, 120)
+            .mapToObj(i -> new Task("Imported " + i, "Imported task " + i, LocalDate.of(2025, 1, 1), project))
+            .toList());
+
+        assertThat(imported).isEqualTo(120);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // at most 3 sequence calls for 50 ids each, plus 3 batched insert statements
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(taskRepository.count()).isEqualTo(before + 120);
+    }
+}
@@ -1,8 +1,18 @@
 package com.baeldung.lsd.persistence.repository;
 
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.CrudRepository;
 
 import com.baeldung.lsd.persistence.model.Project;
 
 public interface ProjectRepository extends CrudRepository<Project, Long> {
+    @Override
+    @EntityGraph(Project.SUMMARY_GRAPH)
+    Iterable<Project> findAll();
+
+    @Override
+    @EntityGraph(Project.DETAIL_GRAPH)
+    Optional<Project> findById(Long id);
 }
@@ -4,14 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Optional;
 
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import com.baeldung.lsd.persistence.model.Project;
+import com.baeldung.lsd.persistence.model.Task;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ProjectRepositoryIntegrationTest {
 
     @Autowired
@@ -20,6 +25,18 @@ class ProjectRepositoryIntegrationTest {
     @Autowired
     TestEntityManager entityManager;
 
+    Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        entityManager.clear();
+        statistics.clear();
+    }
+
     @Test
     void givenNewProject_whenSave_thenSuccess() {
         Project newProject = new Project("PTEST-1", "Test Project 1", "Description for project PTEST-1");
@@ -67,4 +84,33 @@ class ProjectRepositoryIntegrationTest {
         assertThat(fetchedProject.isPresent()).isFalse();
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenProjectsWithTasks_whenFindAll_thenSingleStatementWithoutTasks() {
+        Iterable<Project> projects = repository.findAll();
+
+        assertThat(projects).hasSize(3)
+            .allSatisfy(project -> assertThat(Hibernate.isInitialized(project.getTasks())).isFalse());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenProjectsWithTasks_whenFindByNameContaining_thenSingleStatementWithoutTasks() {
+        Iterable<Project> projects = repository.findByNameContaining("Project");
+
+        assertThat(projects).hasSize(3)
+            .allSatisfy(project -> assertThat(Hibernate.isInitialized(project.getTasks())).isFalse());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenProjectWithTasks_whenFindById_thenTasksAndAssigneesInSingleStatement() {
+        Project project = repository.findById(2L)
+            .orElseThrow();
+
+        assertThat(Hibernate.isInitialized(project.getTasks())).isTrue();
+        assertThat(project.getTasks()).extracting(Task::getAssignee)
+            .allSatisfy(assignee -> assertThat(Hibernate.isInitialized(assignee)).isTrue());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+}
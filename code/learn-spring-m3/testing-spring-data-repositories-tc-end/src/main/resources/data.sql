@@ -1,12 +1,17 @@
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
-INSERT INTO Project(id, code, name, description) VALUES (default, 'P1', 'Project 1', 'About Project 1');
-INSERT INTO Project(id, code, name, description) VALUES (default, 'P2', 'Project 2', 'About Project 2');
-INSERT INTO Project(id, code, name, description) VALUES (default, 'P3', 'Project 3', 'About Project 3');
+INSERT INTO Project(id, code, name, description) VALUES (1, 'P1', 'Project 1', 'About Project 1');
+INSERT INTO Project(id, code, name, description) VALUES (2, 'P2', 'Project 2', 'About Project 2');
+INSERT INTO Project(id, code, name, description) VALUES (3, 'P3', 'Project 3', 'About Project 3');
 
-INSERT INTO Worker(id, email, first_name, last_name) VALUES (default, 'john@test.com', 'John', 'Doe');
+INSERT INTO Worker(id, email, first_name, last_name) VALUES (1, 'john@test.com', 'John', 'Doe');
 
-INSERT INTO Task(id, uuid, name, due_date, description, project_id, status) VALUES (default, public.uuid_generate_v4(), 'Task 1', '2025-01-12', 'Task 1 Description', 1, 0);
-INSERT INTO Task(id, uuid, name, due_date, description, project_id, status) VALUES (default, public.uuid_generate_v4(), 'Task 2', '2025-02-10', 'Task 2 Description', 1, 0);
-INSERT INTO Task(id, uuid, name, due_date, description, project_id, status) VALUES (default, public.uuid_generate_v4(), 'Task 3', '2025-03-16', 'Task 3 Description', 1, 0);
-INSERT INTO Task(id, uuid, name, due_date, description, project_id, status, assignee_id) VALUES (default, public.uuid_generate_v4(), 'Task 4', '2025-06-25', 'Task 4 Description', 2, 0, 1);
\ No newline at end of file
+INSERT INTO Task(id, uuid, name, due_date, description, project_id, status) VALUES (1, public.uuid_generate_v4(), 'Task 1', '2025-01-12', 'Task 1 Description', 1, 0);
+INSERT INTO Task(id, uuid, name, due_date, description, project_id, status) VALUES (2, public.uuid_generate_v4(), 'Task 2', '2025-02-10', 'Task 2 Description', 1, 0);
+INSERT INTO Task(id, uuid, name, due_date, description, project_id, status) VALUES (3, public.uuid_generate_v4(), 'Task 3', '2025-03-16', 'Task 3 Description', 1, 0);
+INSERT INTO Task(id, uuid, name, due_date, description, project_id, status, assignee_id) VALUES (4, public.uuid_generate_v4(), 'Task 4', '2025-06-25', 'Task 4 Description', 2, 0, 1);
+
+-- ids above are explicit, move the pooled sequences past them
+ALTER SEQUENCE project_seq RESTART WITH 101;
+ALTER SEQUENCE task_seq RESTART WITH 101;
+ALTER SEQUENCE worker_seq RESTART WITH 101;
@@ -9,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.baeldung.ls.logging.LogArgs;
 import com.baeldung.ls.persistence.model.Project;
 
 @Aspect
@@ -30,14 +31,14 @@ public class ProjectServiceAspect {
 
     @AfterReturning(pointcut = "execution(*..Optional<*..Project> *..service..findById(*))", returning = "project")
     public void afterReturningProject(Optional<Project> project) {
-        LOG.info("project found: {}", project.orElse(null));
+        LOG.info("project found: {}", LogArgs.summary(project));
     }
 
     @Around("execution(* com.baeldung.ls.service.impl.ProjectServiceImpl.save(*))")
     public Object aroundSave(ProceedingJoinPoint joinPoint) {
         Object val = joinPoint.getArgs()[0];
         try {
-            LOG.info("saving project : {}", val);
+            LOG.info("saving project : {}", LogArgs.summary((Project) val));
             val = joinPoint.proceed();
             LOG.info("project saved successfully !!");
         } catch (Throwable e) {
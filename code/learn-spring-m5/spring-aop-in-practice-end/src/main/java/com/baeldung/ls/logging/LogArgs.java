@@ -0,0 +1,58 @@
+package com.baeldung.ls.logging;
+
+import com.baeldung.ls.persistence.model.Project;
+import org.hibernate.Hibernate;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Log arguments that cost nothing until the message is actually formatted, and a bounded amount when it is.
+ * <p>
+ * The returned objects only compute their text in {@code toString()}, which the logger calls after the level check
+ * and the filters have let the line through. The text is truncated to {@value #MAX_LENGTH} characters.
+ */
+public final class LogArgs {
+
+    static final int MAX_LENGTH = 120;
+
+    private LogArgs() {
+    }
+
+    public static Object lazy(Supplier<?> supplier) {
+        return new Lazy(supplier);
+    }
+
+    /**
+     * Id, name and number of tasks of the project; unlike {@link Project#toString()} it never walks, or loads, the
+     * tasks.
+     */
+    public static Object summary(Project project) {
+        return lazy(() -> describe(project));
+    }
+
+    public static Object summary(Optional<Project> project) {
+        return lazy(() -> project.map(LogArgs::describe).orElse("none"));
+    }
+
+    static String describe(Project project) {
+        if (project == null) {
+            return "null";
+        }
+        String tasks = project.getTasks() == null ? "0"
+            : Hibernate.isInitialized(project.getTasks()) ? String.valueOf(project.getTasks().size()) : "?";
+        return "Project [id=" + project.getId() + ", name=" + project.getName() + ", tasks=" + tasks + "]";
+    }
+
+    static String truncate(String text) {
+        return text.length() <= MAX_LENGTH ? text : text.substring(0, MAX_LENGTH) + "...";
+    }
+
+    private record Lazy(Supplier<?> supplier) {
+
+        @Override
+        public String toString() {
+            return truncate(String.valueOf(supplier.get()));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.baeldung.ls.logging;
+
+import com.baeldung.ls.persistence.model.Project;
+import com.baeldung.ls.persistence.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LogArgsUnitTest {
+
+    @Test
+    void summary_givenManyTasks_printsCountOnly() {
+        Project project = new Project("P1", LocalDate.now());
+        project.setId(1L);
+        for (int i = 0; i < 10_000; i++) {
+            project.getTasks().add(new Task("T" + i, "Description " + i, LocalDate.now(), LocalDate.now()));
+        }
+
+        assertEquals("Project [id=1, name=P1, tasks=10000]", LogArgs.summary(project).toString());
+        assertEquals("Project [id=1, name=P1, tasks=10000]", LogArgs.summary(Optional.of(project)).toString());
+        assertEquals("none", LogArgs.summary(Optional.empty()).toString());
+    }
+
+    @Test
+    void lazy_isEvaluatedOnlyWhenFormattedAndTruncated() {
+        AtomicInteger calls = new AtomicInteger();
+        Object arg = LogArgs.lazy(() -> {
+            calls.incrementAndGet();
+            return "x".repeat(1_000);
+        });
+        assertEquals(0, calls.get());
+
+        assertEquals(LogArgs.MAX_LENGTH + 3, arg.toString().length());
+        assertEquals(1, calls.get());
+    }
+}